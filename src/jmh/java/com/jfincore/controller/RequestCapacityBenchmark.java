@@ -0,0 +1,159 @@
+package com.jfincore.controller;
+
+import com.jfincore.JFinCoreApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the concurrent request capacity of the application on platform and on
+ * virtual threads, at a fixed heap size.
+ * 
+ * The application runs with its web server and an in-memory H2 database, and
+ * {@code spring.threads.virtual.enabled} selects the threading of the Tomcat request
+ * executor. Each invocation sends as many synchronous transaction requests at once as
+ * the concurrency parameter, each holding its request thread for the legacy fraud
+ * latency, and waits for all responses. The ideal time is one legacy latency; on
+ * platform threads, requests beyond the Tomcat thread pool queue up for a free thread.
+ * The number of failed requests is returned, and after each iteration the peak thread
+ * count and the heap in use are printed, since virtual thread stacks live on the heap.
+ * 
+ * The virtual variant requires Java 21: {@code mvn -Pbenchmark,java21 verify}. The
+ * client and the server share the process, so the open file limit must exceed twice
+ * the concurrency.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms512m", "-Xmx512m"})
+@State(Scope.Benchmark)
+public class RequestCapacityBenchmark {
+    
+    private static final String LEGACY_LATENCY = "1s";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(5);
+    private static final int CLIENT_THREADS = 4;
+    
+    @Param({"platform", "virtual"})
+    private String threading;
+    
+    @Param({"1000", "10000"})
+    private int concurrency;
+    
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private URI transactionsUri;
+    
+    /**
+     * Starts the application on a random port with the selected threading, and the HTTP
+     * client sending the requests.
+     */
+    @Setup
+    public void setUp() {
+        boolean virtual = "virtual".equals(threading);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads require Java 21, run with -Pbenchmark,java21");
+        }
+        
+        context = new SpringApplicationBuilder(JFinCoreApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        // Connections wait for a request thread instead of being refused
+                        "--server.tomcat.max-connections=" + concurrency,
+                        "--server.tomcat.accept-count=" + concurrency,
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=OFF",
+                        "--jfincore.fraud.legacy-latency=" + LEGACY_LATENCY,
+                        // Every request waits for the legacy check, without bulkhead or time limit
+                        "--jfincore.fraud.rules.enabled=false",
+                        "--jfincore.fraud.resilience.enabled=false",
+                        "--jfincore.async.recovery.enabled=false",
+                        "--jfincore.balance.reconciliation.enabled=false");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        transactionsUri = URI.create("http://localhost:" + port + "/api/v1/transactions");
+        
+        // Few client threads, so that the thread count reflects the server
+        clientExecutor = Executors.newFixedThreadPool(CLIENT_THREADS);
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+    }
+    
+    /**
+     * Prints the peak thread count and the heap in use.
+     */
+    @TearDown(Level.Iteration)
+    public void printFootprint() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        System.out.printf("%n%s, %d requests: peak %d threads, %d MB heap used of %d MB%n", threading, concurrency,
+                ManagementFactory.getThreadMXBean().getPeakThreadCount(), heap.getUsed() >> 20, heap.getMax() >> 20);
+    }
+    
+    /**
+     * Stops the HTTP client and the application.
+     */
+    @TearDown
+    public void tearDown() {
+        clientExecutor.shutdownNow();
+        context.close();
+    }
+    
+    /**
+     * Sends a full load of concurrent synchronous transaction requests and waits for
+     * all responses.
+     * 
+     * @return the number of requests that failed or were not answered with 201 Created
+     */
+    @Benchmark
+    public int serveConcurrentRequests() {
+        List<CompletableFuture<Boolean>> responses = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            // One account per request, so that per-account serialization never waits
+            HttpRequest request = HttpRequest.newBuilder(transactionsUri)
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"accountId\": \"ACC-" + i + "\", \"amount\": 125.00}"))
+                    .build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, failure) -> failure == null && response.statusCode() == 201));
+        }
+        return (int) responses.stream()
+                .map(CompletableFuture::join)
+                .filter(created -> !created)
+                .count();
+    }
+}
@@ -0,0 +1,77 @@
+package com.jfincore.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jfincore.entity.TransactionStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the Jackson serialization of transaction payloads, using an
+ * {@link ObjectMapper} configured with the same defaults as the application's.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionResponseSerializationBenchmark {
+    
+    private ObjectMapper objectMapper;
+    private TransactionResponseDTO responseDTO;
+    private byte[] requestJson;
+    
+    /**
+     * Creates the object mapper and the payloads to convert.
+     * 
+     * @throws JsonProcessingException if the request payload cannot be serialized
+     */
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        responseDTO = new TransactionResponseDTO(UUID.randomUUID(), "ACC-0001", new BigDecimal("1250.75"),
+                TransactionStatus.APPROVED, LocalDateTime.now());
+        requestJson = objectMapper.writeValueAsBytes(
+                new TransactionRequestDTO("ACC-0001", new BigDecimal("1250.75")));
+    }
+    
+    /**
+     * Serializes a transaction response.
+     * 
+     * @return the JSON bytes
+     * @throws JsonProcessingException if serialization fails
+     */
+    @Benchmark
+    public byte[] serializeResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responseDTO);
+    }
+    
+    /**
+     * Deserializes a transaction request.
+     * 
+     * @return the request DTO
+     * @throws java.io.IOException if deserialization fails
+     */
+    @Benchmark
+    public TransactionRequestDTO deserializeRequest() throws java.io.IOException {
+        return objectMapper.readValue(requestJson, TransactionRequestDTO.class);
+    }
+}
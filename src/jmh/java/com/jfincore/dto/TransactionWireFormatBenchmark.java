@@ -0,0 +1,128 @@
+package com.jfincore.dto;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jfincore.entity.TransactionStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Benchmarks of a page of transaction responses in each wire format offered by the API:
+ * JSON, CBOR and Smile, configured like the application's message converters.
+ * 
+ * Besides the serialization and deserialization times, the setup prints the payload
+ * size per transaction, uncompressed and gzip-compressed as with response compression.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionWireFormatBenchmark {
+    
+    private static final int PAGE_SIZE = 500;
+    private static final long SEED = 42;
+    
+    @Param({"json", "cbor", "smile"})
+    private String format;
+    
+    private ObjectMapper objectMapper;
+    private JavaType listType;
+    private List<TransactionResponseDTO> transactions;
+    private byte[] payload;
+    
+    /**
+     * Creates the object mapper of the format and a page of transactions, and prints
+     * the payload size per transaction.
+     * 
+     * @throws IOException if the page cannot be serialized
+     */
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor()
+                    .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile()
+                    .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        listType = objectMapper.getTypeFactory().constructCollectionType(List.class, TransactionResponseDTO.class);
+        
+        Random random = new Random(SEED);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        TransactionStatus[] statuses = TransactionStatus.values();
+        transactions = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            transactions.add(new TransactionResponseDTO(
+                    new UUID(random.nextLong(), random.nextLong()),
+                    String.format("ACC-%05d", random.nextInt(10_000)),
+                    BigDecimal.valueOf(random.nextInt(1_000_000), 2),
+                    statuses[random.nextInt(statuses.length)],
+                    now.minusNanos(random.nextInt(86_400_000) * 1_000_000L)));
+        }
+        payload = objectMapper.writeValueAsBytes(transactions);
+        
+        System.out.printf("%n%s: %.1f bytes per transaction, %.1f gzip-compressed%n", format,
+                payload.length / (double) PAGE_SIZE, gzippedSize(payload) / (double) PAGE_SIZE);
+    }
+    
+    /**
+     * Serializes a page of transactions.
+     * 
+     * @return the encoded page
+     * @throws IOException if serialization fails
+     */
+    @Benchmark
+    public byte[] serializePage() throws IOException {
+        return objectMapper.writeValueAsBytes(transactions);
+    }
+    
+    /**
+     * Deserializes a page of transactions.
+     * 
+     * @return the decoded page
+     * @throws IOException if deserialization fails
+     */
+    @Benchmark
+    public List<TransactionResponseDTO> deserializePage() throws IOException {
+        return objectMapper.readValue(payload, listType);
+    }
+    
+    private static int gzippedSize(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        }
+        return compressed.size();
+    }
+}
@@ -0,0 +1,104 @@
+package com.jfincore.exception;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares throwing a business error as a stackless {@link CustomBusinessException}
+ * with throwing one that fills in its stack trace, as business exceptions used to.
+ * 
+ * The exception is thrown below a number of frames and caught at the top, as it is
+ * between a service method and the controller advice; a request thread in Tomcat and
+ * Spring MVC is typically more than 100 frames deep by the time a service method runs.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BusinessExceptionThrowBenchmark {
+    
+    private static final String MESSAGE = "Transaction amount exceeds maximum limit of 10000.00";
+    private static final String ERROR_CODE = "AMOUNT_EXCEEDS_LIMIT";
+    
+    @Param({"10", "150"})
+    private int depth;
+    
+    /**
+     * Throws and catches a stackless business exception.
+     * 
+     * @return the error code of the caught exception
+     */
+    @Benchmark
+    public String throwStackless() {
+        try {
+            descend(depth, false);
+            return null;
+        } catch (CustomBusinessException e) {
+            return e.getErrorCode();
+        }
+    }
+    
+    /**
+     * Throws and catches a business exception that fills in its stack trace.
+     * 
+     * @return the error code of the caught exception
+     */
+    @Benchmark
+    public String throwWithStackTrace() {
+        try {
+            descend(depth, true);
+            return null;
+        } catch (StackTraceBusinessException e) {
+            return e.getErrorCode();
+        }
+    }
+    
+    /**
+     * Recurses to the given depth, then throws.
+     * 
+     * @param remaining the number of frames left to descend
+     * @param withStackTrace whether the thrown exception fills in its stack trace
+     */
+    private static void descend(int remaining, boolean withStackTrace) {
+        if (remaining > 0) {
+            descend(remaining - 1, withStackTrace);
+            return;
+        }
+        if (withStackTrace) {
+            throw new StackTraceBusinessException(MESSAGE, ERROR_CODE);
+        }
+        throw new CustomBusinessException(MESSAGE, ERROR_CODE);
+    }
+    
+    /**
+     * A business exception with the previous behaviour of capturing its stack trace.
+     */
+    private static final class StackTraceBusinessException extends RuntimeException {
+        
+        private final String errorCode;
+        
+        StackTraceBusinessException(String message, String errorCode) {
+            super(message);
+            this.errorCode = errorCode;
+        }
+        
+        String getErrorCode() {
+            return errorCode;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.jfincore.exception;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the business error path: creating a {@link CustomBusinessException}
+ * and turning it into an error response in {@link GlobalExceptionHandler}.
+ * Logging is disabled for benchmarks, so log output is not part of the measurement.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GlobalExceptionHandlerBenchmark {
+    
+    private GlobalExceptionHandler handler;
+    private WebRequest webRequest;
+    
+    /**
+     * Creates the handler and the request the error is reported for.
+     */
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler();
+        webRequest = new ServletWebRequest(new MockHttpServletRequest("POST", "/api/v1/transactions"));
+    }
+    
+    /**
+     * Creates a business exception.
+     * 
+     * @return the exception
+     */
+    @Benchmark
+    public CustomBusinessException createException() {
+        return new CustomBusinessException(
+                "Transaction amount exceeds maximum limit of 10000.00",
+                "AMOUNT_EXCEEDS_LIMIT");
+    }
+    
+    /**
+     * Creates a business exception and handles it into an error response.
+     * 
+     * @return the error response
+     */
+    @Benchmark
+    public ResponseEntity<ErrorResponse> handleBusinessException() {
+        return handler.handleCustomBusinessException(new CustomBusinessException(
+                "Transaction amount exceeds maximum limit of 10000.00",
+                "AMOUNT_EXCEEDS_LIMIT"), webRequest);
+    }
+}
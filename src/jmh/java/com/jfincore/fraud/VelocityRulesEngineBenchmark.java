@@ -0,0 +1,100 @@
+package com.jfincore.fraud;
+
+import com.jfincore.entity.Transaction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the evaluation of the local velocity rules, single-threaded and
+ * with concurrent checks spread over a configurable number of accounts.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VelocityRulesEngineBenchmark {
+    
+    /**
+     * Number of distinct accounts the checks are spread over
+     */
+    @Param({"1000", "100000"})
+    public int accounts;
+    
+    private VelocityRulesEngine engine;
+    private Transaction[] transactions;
+    
+    /**
+     * Creates the engine with the default rules and one transaction per account.
+     * Transactions have no timestamp, so each evaluation happens at the current time;
+     * approvals are recorded, so once warmed up most windows are full and checks are
+     * rejected on count.
+     */
+    @Setup
+    public void setUp() {
+        engine = new VelocityRulesEngine(true, Duration.ofHours(1), 20, new BigDecimal("20000.00"),
+                Duration.ofSeconds(1), new BigDecimal("1000.00"), 1_000_000, Clock.systemDefaultZone(),
+                new SimpleMeterRegistry());
+        transactions = new Transaction[accounts];
+        for (int i = 0; i < accounts; i++) {
+            transactions[i] = new Transaction("ACC-" + i, new BigDecimal("125.00"));
+        }
+    }
+    
+    /**
+     * Evaluates the rules for a transaction of a random account.
+     * 
+     * @return the local verdict
+     */
+    @Benchmark
+    public Optional<FraudVerdict> evaluate() {
+        return evaluateAndRecordApproval(transactions[ThreadLocalRandom.current().nextInt(accounts)]);
+    }
+    
+    /**
+     * Evaluates the rules for transactions of random accounts from four threads.
+     * 
+     * @return the local verdict
+     */
+    @Benchmark
+    @Threads(4)
+    public Optional<FraudVerdict> evaluateConcurrently() {
+        return evaluateAndRecordApproval(transactions[ThreadLocalRandom.current().nextInt(accounts)]);
+    }
+    
+    /**
+     * Evaluates a transaction and records it when approved, as the transaction service does.
+     * 
+     * @param transaction the transaction to check
+     * @return the local verdict
+     */
+    private Optional<FraudVerdict> evaluateAndRecordApproval(Transaction transaction) {
+        Optional<FraudVerdict> verdict = engine.evaluate(transaction);
+        if (verdict.isPresent() && verdict.get() == FraudVerdict.APPROVE) {
+            engine.record(transaction);
+        }
+        return verdict;
+    }
+}
@@ -0,0 +1,132 @@
+package com.jfincore.logging;
+
+import com.jfincore.JFinCoreApplication;
+import com.jfincore.controller.TransactionController;
+import com.jfincore.dto.TransactionRequestDTO;
+import com.jfincore.dto.TransactionResponseDTO;
+import com.jfincore.exception.CustomBusinessException;
+import com.jfincore.exception.ErrorResponse;
+import com.jfincore.exception.GlobalExceptionHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what logging costs per request, comparing the {@code dev} profile
+ * (synchronous text logging, SQL statements printed by Hibernate) with the {@code prod}
+ * profile (sampled hot-path INFO lines, asynchronous JSON, no SQL logging).
+ * 
+ * Requests go through the controller and the exception handler in-process, without the
+ * web server, so the difference between the two runs is the logging alone. Console output
+ * is discarded, as it would be by a log shipper reading from a pipe.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestLoggingBenchmark {
+    
+    private static final int ACCOUNTS = 10_000;
+    
+    @Param({"dev", "prod"})
+    private String profile;
+    
+    private PrintStream originalOut;
+    private ConfigurableApplicationContext context;
+    private TransactionController transactionController;
+    private GlobalExceptionHandler exceptionHandler;
+    private WebRequest webRequest;
+    private TransactionRequestDTO[] requests;
+    private TransactionRequestDTO rejectedRequest;
+    private int next;
+    
+    /**
+     * Starts the application with the application's own logging configuration
+     * instead of the silent one used by the other benchmarks.
+     */
+    @Setup
+    public void setUp() {
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        
+        context = new SpringApplicationBuilder(JFinCoreApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=" + profile,
+                        "--logging.config=classpath:logback-spring.xml",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--jfincore.fraud.legacy-latency=0ms",
+                        "--jfincore.fraud.rules.enabled=false",
+                        "--jfincore.balance.reconciliation.enabled=false");
+        transactionController = context.getBean(TransactionController.class);
+        exceptionHandler = context.getBean(GlobalExceptionHandler.class);
+        webRequest = new ServletWebRequest(new MockHttpServletRequest("POST", "/api/v1/transactions"));
+        
+        requests = new TransactionRequestDTO[ACCOUNTS];
+        for (int i = 0; i < ACCOUNTS; i++) {
+            requests[i] = new TransactionRequestDTO("ACC-" + i, new BigDecimal("125.00"));
+        }
+        rejectedRequest = new TransactionRequestDTO("ACC-0", new BigDecimal("50000.00"));
+    }
+    
+    /**
+     * Stops the application and restores the console.
+     */
+    @TearDown
+    public void tearDown() {
+        context.close();
+        System.setOut(originalOut);
+    }
+    
+    /**
+     * Creates and processes one transaction.
+     * 
+     * @return the response
+     */
+    @Benchmark
+    public ResponseEntity<TransactionResponseDTO> acceptedRequest() {
+        TransactionRequestDTO request = requests[next];
+        next = (next + 1) % ACCOUNTS;
+        return transactionController.createTransaction(request, null, null);
+    }
+    
+    /**
+     * Submits a transaction that breaks a business rule and handles the resulting error.
+     * 
+     * @return the error response
+     */
+    @Benchmark
+    public ResponseEntity<ErrorResponse> rejectedRequest() {
+        try {
+            transactionController.createTransaction(rejectedRequest, null, null);
+            throw new IllegalStateException("Transaction was not rejected");
+        } catch (CustomBusinessException e) {
+            return exceptionHandler.handleCustomBusinessException(e, webRequest);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.jfincore.mapper;
+
+import com.jfincore.dto.TransactionRequestDTO;
+import com.jfincore.dto.TransactionResponseDTO;
+import com.jfincore.entity.Transaction;
+import com.jfincore.entity.TransactionStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the conversions between transaction DTOs and entities.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionMapperBenchmark {
+    
+    private TransactionMapper mapper;
+    private TransactionRequestDTO requestDTO;
+    private Transaction transaction;
+    
+    /**
+     * Creates the mapper and the objects to convert.
+     */
+    @Setup
+    public void setUp() {
+        mapper = new TransactionMapper();
+        requestDTO = new TransactionRequestDTO("ACC-0001", new BigDecimal("1250.75"));
+        transaction = new Transaction(UUID.randomUUID(), "ACC-0001", new BigDecimal("1250.75"),
+                TransactionStatus.APPROVED, LocalDateTime.now(), null);
+    }
+    
+    /**
+     * Maps a persisted transaction to its response DTO.
+     * 
+     * @return the response DTO
+     */
+    @Benchmark
+    public TransactionResponseDTO toResponseDTO() {
+        return mapper.toResponseDTO(transaction);
+    }
+    
+    /**
+     * Maps a transaction request to a new entity.
+     * 
+     * @return the new entity
+     */
+    @Benchmark
+    public Transaction toEntity() {
+        return mapper.toEntity(requestDTO);
+    }
+}
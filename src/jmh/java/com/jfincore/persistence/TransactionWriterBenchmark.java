@@ -0,0 +1,98 @@
+package com.jfincore.persistence;
+
+import com.jfincore.JFinCoreApplication;
+import com.jfincore.entity.Transaction;
+import com.jfincore.entity.TransactionStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of committed payments (PENDING insert followed by the final status, balance
+ * and outbox update) through the direct and the write-behind {@link TransactionWriter},
+ * against an in-memory H2 database with concurrent callers.
+ * 
+ * The score is payments per second; each payment is two acknowledged commits on the
+ * direct path, and a share of two grouped commits on the write-behind path.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class TransactionWriterBenchmark {
+    
+    private static final int ACCOUNTS = 1_000;
+    
+    @Param({"direct", "write-behind"})
+    private String mode;
+    
+    private ConfigurableApplicationContext context;
+    private TransactionWriter transactionWriter;
+    
+    /**
+     * Starts the application without the web server in the benchmarked persistence mode.
+     */
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(JFinCoreApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=OFF",
+                        "--jfincore.persistence.mode=" + mode,
+                        "--jfincore.outbox.relay-enabled=false",
+                        "--jfincore.balance.reconciliation.enabled=false");
+        transactionWriter = context.getBean(TransactionWriter.class);
+    }
+    
+    /**
+     * Stops the application.
+     */
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    /**
+     * Writes one payment: the PENDING insert, then the APPROVED status.
+     * 
+     * @return the approved transaction
+     */
+    @Benchmark
+    public Transaction payment() {
+        String accountId = "ACC-" + ThreadLocalRandom.current().nextInt(ACCOUNTS);
+        Transaction transaction = transactionWriter.insertPending(
+                new Transaction(accountId, new BigDecimal("125.00")));
+        transaction.setStatus(TransactionStatus.APPROVED);
+        try {
+            return transactionWriter.saveFinalStatus(transaction);
+        } catch (DataIntegrityViolationException e) {
+            // The account's balance row was created concurrently, as retried by the service
+            return transactionWriter.saveFinalStatus(transaction);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.jfincore.repository;
+
+import com.jfincore.JFinCoreApplication;
+import com.jfincore.entity.Transaction;
+import com.jfincore.entity.TransactionStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the indexed {@link TransactionRepository} finders on a table of 10 million
+ * transactions spread over 100,000 accounts and one year.
+ * 
+ * The table lives in an H2 file database under {@code target/jmh} by default and is only
+ * loaded when it does not hold the expected number of rows, so later runs start right
+ * away. Another database can be given with {@code -p url=...} and {@code -p dialect=...},
+ * e.g. a MySQL instance with credentials in the URL, to compare against its planner.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Benchmark)
+public class TransactionFinderBenchmark {
+    
+    private static final int ACCOUNTS = 100_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    private static final long SEED = 42;
+    private static final LocalDateTime END = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final long SPAN_SECONDS = ChronoUnit.SECONDS.between(END.minusYears(1), END);
+    private static final UUID MAX_ID = new UUID(-1L, -1L);
+    
+    @Param("10000000")
+    private long rows;
+    
+    @Param("jdbc:h2:file:./target/jmh/transactions;DB_CLOSE_ON_EXIT=FALSE")
+    private String url;
+    
+    @Param("org.hibernate.dialect.H2Dialect")
+    private String dialect;
+    
+    private ConfigurableApplicationContext context;
+    private TransactionRepository transactionRepository;
+    
+    /**
+     * Starts the application without the web server and background jobs against the
+     * benchmark database, loading the transactions if needed.
+     */
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(JFinCoreApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + url,
+                        "--spring.jpa.database-platform=" + dialect,
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=OFF",
+                        "--jfincore.fraud.rules.enabled=false",
+                        "--jfincore.async.recovery.enabled=false",
+                        "--jfincore.outbox.relay-enabled=false",
+                        "--jfincore.balance.reconciliation.enabled=false");
+        transactionRepository = context.getBean(TransactionRepository.class);
+        
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transactions", Long.class);
+        if (existing == null || existing != rows) {
+            load(jdbcTemplate);
+        }
+    }
+    
+    /**
+     * Stops the application.
+     */
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    /**
+     * Reads the first page of an account's history.
+     * 
+     * @return the page
+     */
+    @Benchmark
+    public List<Transaction> firstPageByAccount() {
+        return transactionRepository.findFirstPageByAccountId(randomAccount(), Limit.of(PAGE_SIZE));
+    }
+    
+    /**
+     * Reads a page of transactions with a status from a random keyset position.
+     * 
+     * @return the page
+     */
+    @Benchmark
+    public List<Transaction> pageByStatusAfter() {
+        return transactionRepository.findPageByStatusAfter(TransactionStatus.APPROVED, randomTime(), MAX_ID,
+                Limit.of(PAGE_SIZE));
+    }
+    
+    /**
+     * Sums an account's approved transactions.
+     * 
+     * @return the total amount
+     */
+    @Benchmark
+    public BigDecimal totalByAccountAndStatus() {
+        return transactionRepository.calculateTotalAmountByAccountIdAndStatus(randomAccount(),
+                TransactionStatus.APPROVED);
+    }
+    
+    /**
+     * Reads the transactions of a random ten-minute range.
+     * 
+     * @return the transactions
+     */
+    @Benchmark
+    public List<Transaction> timestampRange() {
+        LocalDateTime from = randomTime();
+        return transactionRepository.findByTimestampBetweenOrderByTimestampDesc(from, from.plusMinutes(10));
+    }
+    
+    /**
+     * Replaces the table content with the benchmark rows, written in JDBC batches.
+     * 
+     * @param jdbcTemplate the template of the benchmark database
+     */
+    private void load(JdbcTemplate jdbcTemplate) {
+        System.out.printf("%nLoading %,d transactions...%n", rows);
+        jdbcTemplate.execute("TRUNCATE TABLE transactions");
+        
+        Random random = new Random(SEED);
+        TransactionStatus[] statuses = {TransactionStatus.APPROVED, TransactionStatus.APPROVED, 
+                TransactionStatus.APPROVED, TransactionStatus.REJECTED};
+        List<Object[]> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+        for (long i = 0; i < rows; i++) {
+            batch.add(new Object[] {
+                    bytes(new UUID(random.nextLong(), random.nextLong())),
+                    "ACC-" + random.nextInt(ACCOUNTS),
+                    BigDecimal.valueOf(random.nextInt(1_000_000), 2),
+                    statuses[random.nextInt(statuses.length)].name(),
+                    Timestamp.valueOf(END.minusSeconds((long) (random.nextDouble() * SPAN_SECONDS)))});
+            if (batch.size() == LOAD_BATCH_SIZE || i == rows - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO transactions (id, account_id, amount, status, timestamp) "
+                        + "VALUES (?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+    
+    private static String randomAccount() {
+        return "ACC-" + ThreadLocalRandom.current().nextInt(ACCOUNTS);
+    }
+    
+    private static LocalDateTime randomTime() {
+        return END.minusSeconds(ThreadLocalRandom.current().nextLong(SPAN_SECONDS));
+    }
+    
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
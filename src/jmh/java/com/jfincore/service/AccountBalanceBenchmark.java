@@ -0,0 +1,158 @@
+package com.jfincore.service;
+
+import com.jfincore.JFinCoreApplication;
+import com.jfincore.dto.AccountBalanceDTO;
+import com.jfincore.entity.TransactionStatus;
+import com.jfincore.repository.TransactionRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of an account balance read from the materialized {@code account_balances}
+ * aggregate, as served by {@link BalanceService#getBalance}, against the raw
+ * {@code SUM(amount)} over the account's history it replaces, for an account with
+ * up to one million approved transactions.
+ * 
+ * The transactions live in an H2 file database under {@code target/jmh}, one per history
+ * size, and are only loaded when missing; the aggregate row is computed from them.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@State(Scope.Benchmark)
+public class AccountBalanceBenchmark {
+    
+    private static final String ACCOUNT = "ACC-MERCHANT";
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    private static final long SEED = 42;
+    private static final LocalDateTime END = LocalDateTime.of(2024, 1, 1, 0, 0);
+    
+    @Param({"1000", "1000000"})
+    private int transactionsPerAccount;
+    
+    private ConfigurableApplicationContext context;
+    private BalanceService balanceService;
+    private TransactionRepository transactionRepository;
+    
+    /**
+     * Starts the application without the web server and background jobs against the
+     * database of the history size, loading the account's transactions if needed.
+     */
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(JFinCoreApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:file:./target/jmh/balances-" + transactionsPerAccount,
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=OFF",
+                        "--jfincore.fraud.rules.enabled=false",
+                        "--jfincore.async.recovery.enabled=false",
+                        "--jfincore.outbox.relay-enabled=false",
+                        "--jfincore.balance.reconciliation.enabled=false");
+        balanceService = context.getBean(BalanceService.class);
+        transactionRepository = context.getBean(TransactionRepository.class);
+        
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Long existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transactions WHERE account_id = ?", Long.class, ACCOUNT);
+        if (existing == null || existing != transactionsPerAccount) {
+            load(jdbcTemplate);
+        }
+    }
+    
+    /**
+     * Stops the application.
+     */
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    /**
+     * Reads the approved balance from the materialized aggregate.
+     * 
+     * @return the balance
+     */
+    @Benchmark
+    public AccountBalanceDTO materializedBalance() {
+        return balanceService.getBalance(ACCOUNT, TransactionStatus.APPROVED);
+    }
+    
+    /**
+     * Sums the account's approved transactions.
+     * 
+     * @return the total amount
+     */
+    @Benchmark
+    public BigDecimal rawSum() {
+        return transactionRepository.calculateTotalAmountByAccountIdAndStatus(ACCOUNT, TransactionStatus.APPROVED);
+    }
+    
+    /**
+     * Replaces the account's transactions, written in JDBC batches, and its balances.
+     * 
+     * @param jdbcTemplate the template of the benchmark database
+     */
+    private void load(JdbcTemplate jdbcTemplate) {
+        System.out.printf("%nLoading %,d transactions...%n", transactionsPerAccount);
+        jdbcTemplate.update("DELETE FROM account_balances WHERE account_id = ?", ACCOUNT);
+        jdbcTemplate.update("DELETE FROM transactions WHERE account_id = ?", ACCOUNT);
+        
+        Random random = new Random(SEED);
+        List<Object[]> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+        for (int i = 0; i < transactionsPerAccount; i++) {
+            batch.add(new Object[] {
+                    bytes(new UUID(random.nextLong(), random.nextLong())),
+                    ACCOUNT,
+                    BigDecimal.valueOf(random.nextInt(1_000_000), 2),
+                    TransactionStatus.APPROVED.name(),
+                    Timestamp.valueOf(END.minusSeconds(i))});
+            if (batch.size() == LOAD_BATCH_SIZE || i == transactionsPerAccount - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO transactions (id, account_id, amount, status, timestamp) "
+                        + "VALUES (?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        
+        jdbcTemplate.update("INSERT INTO account_balances (account_id, status, total_amount, transaction_count) "
+                + "SELECT account_id, status, SUM(amount), COUNT(*) FROM transactions WHERE account_id = ? "
+                + "GROUP BY account_id, status", ACCOUNT);
+    }
+    
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
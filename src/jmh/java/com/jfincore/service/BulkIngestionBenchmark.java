@@ -0,0 +1,122 @@
+package com.jfincore.service;
+
+import com.jfincore.JFinCoreApplication;
+import com.jfincore.dto.TransactionBatchItemResultDTO;
+import com.jfincore.dto.TransactionRequestDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ingestion throughput of {@link TransactionService#submitTransactions}, which persists a
+ * whole batch with JDBC batch inserts in one transaction, against submitting the same
+ * transactions one at a time through {@link TransactionService#submitTransaction}, each
+ * with its own insert and commit. Runs in-process against an in-memory H2 database.
+ * 
+ * The score is accepted transactions per second. Fraud decisions run in the background
+ * as in the application, with the legacy latency stubbed out and a queue large enough
+ * that no transaction is rejected.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkIngestionBenchmark {
+    
+    private static final int BATCH_SIZE = 1_000;
+    private static final int ACCOUNTS = 10_000;
+    
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private List<List<TransactionRequestDTO>> batches;
+    private int next;
+    
+    /**
+     * Starts the application without the web server and prepares batches spread over
+     * distinct accounts.
+     */
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(JFinCoreApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=OFF",
+                        "--jfincore.fraud.legacy-latency=0ms",
+                        "--jfincore.fraud.rules.enabled=false",
+                        "--jfincore.async.queue-capacity=10000000",
+                        "--jfincore.async.batch-max-items=" + BATCH_SIZE,
+                        "--jfincore.balance.reconciliation.enabled=false");
+        transactionService = context.getBean(TransactionService.class);
+        
+        batches = new ArrayList<>();
+        for (int batch = 0; batch < ACCOUNTS / BATCH_SIZE; batch++) {
+            List<TransactionRequestDTO> requests = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                requests.add(new TransactionRequestDTO("ACC-" + (batch * BATCH_SIZE + i), new BigDecimal("125.00")));
+            }
+            batches.add(requests);
+        }
+    }
+    
+    /**
+     * Stops the application.
+     */
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    /**
+     * Submits one batch through the bulk path.
+     * 
+     * @return the per-item results
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<TransactionBatchItemResultDTO> submitBatch() {
+        return transactionService.submitTransactions(nextBatch());
+    }
+    
+    /**
+     * Submits the transactions of one batch one at a time through the single-item path.
+     * 
+     * @param blackhole consumes the responses
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void submitOneByOne(Blackhole blackhole) {
+        for (TransactionRequestDTO request : nextBatch()) {
+            blackhole.consume(transactionService.submitTransaction(request));
+        }
+    }
+    
+    private List<TransactionRequestDTO> nextBatch() {
+        List<TransactionRequestDTO> batch = batches.get(next);
+        next = (next + 1) % batches.size();
+        return batch;
+    }
+}
@@ -0,0 +1,92 @@
+package com.jfincore.service;
+
+import com.jfincore.JFinCoreApplication;
+import com.jfincore.dto.TransactionRequestDTO;
+import com.jfincore.dto.TransactionResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end benchmark of {@link TransactionService#processTransaction} running in-process
+ * against an in-memory H2 database, with the legacy fraud latency stubbed out.
+ * 
+ * The local velocity rules are disabled so that every check goes through the legacy
+ * fraud checker and its resilience decorator; each invocation uses a different account
+ * out of a fixed set so that per-account serialization never waits.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProcessTransactionBenchmark {
+    
+    private static final int ACCOUNTS = 10_000;
+    
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private TransactionRequestDTO[] requests;
+    private int next;
+    
+    /**
+     * Starts the application without the web server. Overrides are passed as
+     * command line arguments so that they take precedence over application.properties.
+     */
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(JFinCoreApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=OFF",
+                        "--jfincore.fraud.legacy-latency=0ms",
+                        "--jfincore.fraud.rules.enabled=false",
+                        "--jfincore.balance.reconciliation.enabled=false");
+        transactionService = context.getBean(TransactionService.class);
+        
+        requests = new TransactionRequestDTO[ACCOUNTS];
+        for (int i = 0; i < ACCOUNTS; i++) {
+            requests[i] = new TransactionRequestDTO("ACC-" + i, new BigDecimal("125.00"));
+        }
+    }
+    
+    /**
+     * Stops the application.
+     */
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    /**
+     * Processes one transaction: validation, PENDING insert, fraud check,
+     * final status and balance update.
+     * 
+     * @return the processed transaction
+     */
+    @Benchmark
+    public TransactionResponseDTO processTransaction() {
+        TransactionRequestDTO request = requests[next];
+        next = (next + 1) % ACCOUNTS;
+        return transactionService.processTransaction(request);
+    }
+}
@@ -0,0 +1,100 @@
+package com.jfincore.service;
+
+import com.jfincore.dto.TransactionRequestDTO;
+import com.jfincore.exception.CustomBusinessException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for transaction request validation: the business rules applied by
+ * {@link TransactionServiceImpl} and the Bean Validation constraints of the request DTO.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionValidationBenchmark {
+    
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private TransactionRequestDTO validRequest;
+    private TransactionRequestDTO excessiveRequest;
+    
+    /**
+     * Creates the validator and the requests to validate.
+     */
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validRequest = new TransactionRequestDTO("ACC-0001", new BigDecimal("1250.75"));
+        excessiveRequest = new TransactionRequestDTO("ACC-0001", new BigDecimal("25000.00"));
+    }
+    
+    /**
+     * Closes the validator factory.
+     */
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+    
+    /**
+     * Applies the business rules to a valid request.
+     * 
+     * @return the validated request
+     */
+    @Benchmark
+    public TransactionRequestDTO businessRulesValid() {
+        TransactionServiceImpl.validateTransactionRules(validRequest);
+        return validRequest;
+    }
+    
+    /**
+     * Applies the business rules to a request above the maximum amount, including
+     * the cost of creating the business exception.
+     * 
+     * @return the business exception
+     */
+    @Benchmark
+    public CustomBusinessException businessRulesRejected() {
+        try {
+            TransactionServiceImpl.validateTransactionRules(excessiveRequest);
+            throw new IllegalStateException("Request should have been rejected");
+        } catch (CustomBusinessException e) {
+            return e;
+        }
+    }
+    
+    /**
+     * Applies the Bean Validation constraints to a valid request.
+     * 
+     * @return the constraint violations
+     */
+    @Benchmark
+    public Set<ConstraintViolation<TransactionRequestDTO>> beanValidation() {
+        return validator.validate(validRequest);
+    }
+}
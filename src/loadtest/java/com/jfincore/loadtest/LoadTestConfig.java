@@ -0,0 +1,136 @@
+package com.jfincore.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Load test settings, read from {@code loadtest.properties} on the classpath and
+ * overridden by {@code key=value} command line arguments (a leading {@code --} is optional).
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+public class LoadTestConfig {
+    
+    private static final String DEFAULTS = "loadtest.properties";
+    private static final String APP_PREFIX = "app.";
+    
+    private final Properties properties;
+    
+    private LoadTestConfig(Properties properties) {
+        this.properties = properties;
+    }
+    
+    /**
+     * Loads the settings.
+     * 
+     * @param args the command line arguments, each in {@code key=value} form
+     * @return the settings
+     * @throws IllegalArgumentException if an argument is not in {@code key=value} form
+     */
+    public static LoadTestConfig load(String[] args) {
+        return load(DEFAULTS, args);
+    }
+    
+    /**
+     * Loads the settings from another defaults file.
+     * 
+     * @param defaultsResource the classpath resource holding the default settings
+     * @param args the command line arguments, each in {@code key=value} form
+     * @return the settings
+     * @throws IllegalArgumentException if an argument is not in {@code key=value} form
+     */
+    public static LoadTestConfig load(String defaultsResource, String[] args) {
+        Properties properties = new Properties();
+        try (InputStream defaults = LoadTestConfig.class.getClassLoader().getResourceAsStream(defaultsResource)) {
+            if (defaults != null) {
+                properties.load(defaults);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + defaultsResource, e);
+        }
+        
+        for (String arg : args) {
+            String setting = arg.startsWith("--") ? arg.substring(2) : arg;
+            int separator = setting.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            properties.setProperty(setting.substring(0, separator), setting.substring(separator + 1));
+        }
+        
+        return new LoadTestConfig(properties);
+    }
+    
+    /**
+     * Returns a string setting.
+     * 
+     * @param key the setting name
+     * @return the value, or null if missing or empty
+     */
+    public String getString(String key) {
+        String value = properties.getProperty(key);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+    
+    /**
+     * Returns a required integer setting.
+     * 
+     * @param key the setting name
+     * @return the value
+     */
+    public int getInt(String key) {
+        return Integer.parseInt(require(key));
+    }
+    
+    /**
+     * Returns a required duration setting, such as {@code 10s} or {@code 50ms}.
+     * 
+     * @param key the setting name
+     * @return the value
+     */
+    public Duration getDuration(String key) {
+        return DurationStyle.detectAndParse(require(key));
+    }
+    
+    /**
+     * Returns an optional numeric setting.
+     * 
+     * @param key the setting name
+     * @return the value, or null if missing or empty
+     */
+    public Double getOptionalDouble(String key) {
+        String value = getString(key);
+        return value == null ? null : Double.valueOf(value);
+    }
+    
+    /**
+     * Returns the application overrides as command line arguments.
+     * 
+     * @return one {@code --key=value} argument per {@code app.} setting
+     */
+    public List<String> getApplicationArgs() {
+        List<String> args = new ArrayList<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(APP_PREFIX)) {
+                args.add("--" + key.substring(APP_PREFIX.length()) + "=" + properties.getProperty(key));
+            }
+        }
+        return args;
+    }
+    
+    private String require(String key) {
+        String value = getString(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing load test setting: " + key);
+        }
+        return value;
+    }
+}
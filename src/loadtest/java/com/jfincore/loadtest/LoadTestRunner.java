@@ -0,0 +1,614 @@
+package com.jfincore.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jfincore.JFinCoreApplication;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Closed-loop load generator for the transaction API.
+ * 
+ * Boots the application in-process with H2 and the configurable legacy fraud latency
+ * stub (or targets a running instance), drives a weighted mix of POST and GET requests
+ * from a fixed number of workers, and reports throughput, latency percentiles, error
+ * rates, Hikari pool saturation, busy Tomcat threads and the rate at which fraud decisions
+ * complete, which for asynchronous requests differs from the request rate. The process
+ * exits with status 1 when any configured SLO threshold is exceeded, which fails the
+ * Maven build.
+ * 
+ * Workers send requests back to back, so latencies are those seen by a saturated client
+ * population rather than by an open arrival rate.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+public class LoadTestRunner {
+    
+    private static final String API_PATH = "/api/v1/transactions";
+    private static final int RECENT_IDS = 4096;
+    private static final long POOL_SAMPLE_MILLIS = 100;
+    
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final AtomicReferenceArray<String> recentIds = new AtomicReferenceArray<>(RECENT_IDS);
+    private final AtomicLong createdCount = new AtomicLong();
+    private final PoolStats poolStats = new PoolStats();
+    private final ThreadStats tomcatThreadStats = new ThreadStats();
+    
+    private String baseUrl;
+    private int accounts;
+    private int[] cumulativeWeights;
+    private volatile double decisionsAtStart;
+    private Map<String, Object> report;
+    
+    /**
+     * Creates a load test runner.
+     * 
+     * @param config the load test settings
+     */
+    public LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats(operation.key, meterRegistry));
+        }
+    }
+    
+    /**
+     * Runs the load test and exits with status 1 if an SLO is not met.
+     * 
+     * @param args {@code key=value} overrides of {@code loadtest.properties}
+     * @throws Exception if the run cannot be completed
+     */
+    public static void main(String[] args) throws Exception {
+        boolean passed = new LoadTestRunner(LoadTestConfig.load(args)).run();
+        System.exit(passed ? 0 : 1);
+    }
+    
+    /**
+     * Runs the load test.
+     * 
+     * @return true if all SLOs are met
+     * @throws Exception if the run cannot be completed
+     */
+    public boolean run() throws Exception {
+        int concurrency = config.getInt("concurrency");
+        Duration warmup = config.getDuration("warmup");
+        Duration duration = config.getDuration("duration");
+        accounts = config.getInt("accounts");
+        cumulativeWeights = cumulativeWeights();
+        
+        ConfigurableApplicationContext context = null;
+        ScheduledExecutorService poolSampler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            baseUrl = config.getString("target-url");
+            if (baseUrl == null) {
+                context = startApplication();
+                baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            }
+            
+            System.out.printf("Load test against %s: %d workers, %s warmup, %s measured%n",
+                    baseUrl, concurrency, warmup, duration);
+            
+            long measureFrom = System.nanoTime() + warmup.toNanos();
+            long measureUntil = measureFrom + duration.toNanos();
+            if (context != null) {
+                startSampling(context, poolSampler, warmup);
+            }
+            runWorkers(concurrency, measureFrom, measureUntil);
+            
+            report = buildReport(context, duration);
+            List<Map<String, Object>> slos = evaluateSlos(duration);
+            report.put("slos", slos);
+            
+            printReport(report);
+            writeReport(report);
+            
+            return slos.stream().allMatch(slo -> Boolean.TRUE.equals(slo.get("passed")));
+        } finally {
+            poolSampler.shutdownNow();
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+    
+    /**
+     * Returns the report of the completed run, as written to the report file.
+     * 
+     * @return the report, or null before the run has completed
+     */
+    public Map<String, Object> getReport() {
+        return report;
+    }
+    
+    /**
+     * Boots the application on a random port with H2 and the configured overrides.
+     * 
+     * @return the application context
+     */
+    private ConfigurableApplicationContext startApplication() {
+        List<String> args = new ArrayList<>();
+        args.add("--server.port=0");
+        args.add("--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect");
+        args.addAll(config.getApplicationArgs());
+        
+        return new SpringApplicationBuilder(JFinCoreApplication.class).run(args.toArray(String[]::new));
+    }
+    
+    /**
+     * Samples the Hikari pool and the Tomcat request threads during the measured period,
+     * and notes the number of decided transactions when it starts.
+     * 
+     * @param context the application context
+     * @param sampler the executor running the samples
+     * @param warmup the delay before the first sample
+     */
+    private void startSampling(ConfigurableApplicationContext context, ScheduledExecutorService sampler,
+                               Duration warmup) {
+        sampler.schedule(() -> decisionsAtStart = decisions(context), warmup.toMillis(), TimeUnit.MILLISECONDS);
+        
+        DataSource dataSource = context.getBean(DataSource.class);
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            sampler.scheduleAtFixedRate(() -> {
+                HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+                if (pool != null) {
+                    poolStats.sample(pool.getActiveConnections(), pool.getTotalConnections(),
+                            pool.getThreadsAwaitingConnection());
+                }
+            }, warmup.toMillis(), POOL_SAMPLE_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        
+        if (context instanceof WebServerApplicationContext webContext
+                && webContext.getWebServer() instanceof TomcatWebServer tomcat) {
+            Executor executor = tomcat.getTomcat().getConnector().getProtocolHandler().getExecutor();
+            // Not a pool when requests run on virtual threads
+            if (executor instanceof ThreadPoolExecutor threads) {
+                sampler.scheduleAtFixedRate(() -> tomcatThreadStats.sample(threads.getActiveCount(), 
+                        threads.getPoolSize()), warmup.toMillis(), POOL_SAMPLE_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+    
+    /**
+     * Counts the transactions whose final status has been saved so far.
+     * 
+     * @param context the application context
+     * @return the number of final status saves
+     */
+    private static double decisions(ConfigurableApplicationContext context) {
+        Timer save = context.getBean(MeterRegistry.class).find("jfincore.transaction.stage")
+                .tag("stage", "save")
+                .timer();
+        return save == null ? 0 : save.count();
+    }
+    
+    /**
+     * Runs the workers until the end of the measured period.
+     * 
+     * @param concurrency the number of workers
+     * @param measureFrom the time after which requests are recorded
+     * @param measureUntil the time the workers stop
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    private void runWorkers(int concurrency, long measureFrom, long measureUntil) throws InterruptedException {
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency,
+                runnable -> new Thread(runnable, "loadtest-worker-" + threadCount.incrementAndGet()));
+        for (int i = 0; i < concurrency; i++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < measureUntil) {
+                    Operation operation = nextOperation();
+                    long start = System.nanoTime();
+                    String errorKind = execute(operation);
+                    if (start >= measureFrom) {
+                        stats.get(operation).record(System.nanoTime() - start, errorKind);
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(measureUntil - System.nanoTime() + TimeUnit.MINUTES.toNanos(1), TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * Sends one request.
+     * 
+     * @param operation the kind of request
+     * @return null if the request succeeded, otherwise a short description of the failure
+     */
+    private String execute(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String accountId = "LT-" + random.nextInt(accounts);
+        
+        HttpRequest.Builder request = HttpRequest.newBuilder().timeout(Duration.ofSeconds(30));
+        switch (operation) {
+            case POST_SYNC, POST_ASYNC -> {
+                String body = String.format(Locale.ROOT, "{\"accountId\":\"%s\",\"amount\":%d.%02d}",
+                        accountId, random.nextInt(1, 9000), random.nextInt(100));
+                request.uri(URI.create(baseUrl + API_PATH))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body));
+                if (operation == Operation.POST_ASYNC) {
+                    request.header("Prefer", "respond-async");
+                }
+            }
+            case GET_BY_ID -> {
+                String id = recentId();
+                request.uri(URI.create(baseUrl + API_PATH + "/" + (id != null ? id : UUID.randomUUID())))
+                        .GET();
+            }
+            case GET_BY_ACCOUNT -> request.uri(URI.create(baseUrl + API_PATH + "/account/" + accountId + "?limit=20"))
+                    .GET();
+        }
+        
+        try {
+            HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            int status = response.statusCode();
+            if (operation == Operation.GET_BY_ID && status == 404 && createdCount.get() == 0) {
+                // Nothing created yet to look up
+                return null;
+            }
+            if (status >= 300) {
+                return "HTTP " + status;
+            }
+            if (operation == Operation.POST_SYNC || operation == Operation.POST_ASYNC) {
+                rememberId(objectMapper.readTree(response.body()));
+            }
+            return null;
+        } catch (IOException e) {
+            return e.getClass().getSimpleName();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "Interrupted";
+        }
+    }
+    
+    /**
+     * Picks the next operation according to the configured mix.
+     * 
+     * @return the operation
+     */
+    private Operation nextOperation() {
+        int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        Operation[] operations = Operation.values();
+        for (int i = 0; i < operations.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+    
+    /**
+     * Computes the cumulative weights of the configured request mix.
+     * 
+     * @return the cumulative weights, in operation order
+     */
+    private int[] cumulativeWeights() {
+        Operation[] operations = Operation.values();
+        int[] weights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += config.getInt("mix." + operations[i].key);
+            weights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("The request mix must have a positive total weight");
+        }
+        return weights;
+    }
+    
+    private void rememberId(JsonNode transaction) {
+        JsonNode id = transaction.get("id");
+        if (id != null) {
+            recentIds.set((int) (createdCount.getAndIncrement() % RECENT_IDS), id.asText());
+        }
+    }
+    
+    private String recentId() {
+        long created = createdCount.get();
+        if (created == 0) {
+            return null;
+        }
+        return recentIds.get(ThreadLocalRandom.current().nextInt((int) Math.min(created, RECENT_IDS)));
+    }
+    
+    /**
+     * Builds the report of the measured period.
+     * 
+     * @param context the application context, or null when targeting a running instance
+     * @param duration the measured period
+     * @return the report
+     */
+    private Map<String, Object> buildReport(ConfigurableApplicationContext context, Duration duration) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("targetUrl", baseUrl);
+        report.put("concurrency", config.getInt("concurrency"));
+        report.put("durationSeconds", duration.toSeconds());
+        
+        long requests = 0;
+        long errors = 0;
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            OperationStats operationStats = stats.get(operation);
+            requests += operationStats.getRequests();
+            errors += operationStats.getErrors();
+            
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("requests", operationStats.getRequests());
+            entry.put("throughput", operationStats.getRequests() / (double) duration.toSeconds());
+            entry.put("errors", operationStats.getErrors());
+            entry.put("errorsByKind", operationStats.getErrorsByKind());
+            entry.put("latencyMillis", latencyMillis(operationStats));
+            operations.put(operation.key, entry);
+        }
+        
+        report.put("requests", requests);
+        report.put("throughput", requests / (double) duration.toSeconds());
+        report.put("errorRate", requests == 0 ? 0.0 : errors / (double) requests);
+        report.put("operations", operations);
+        
+        if (context != null) {
+            Map<String, Object> pool = poolStats.toMap();
+            Timer acquire = context.getBean(MeterRegistry.class).find("hikaricp.connections.acquire").timer();
+            if (acquire != null) {
+                pool.put("acquireMeanMillis", acquire.mean(TimeUnit.MILLISECONDS));
+                pool.put("acquireMaxMillis", acquire.max(TimeUnit.MILLISECONDS));
+            }
+            report.put("pool", pool);
+            if (tomcatThreadStats.getSamples() > 0) {
+                report.put("tomcatThreads", tomcatThreadStats.toMap());
+            }
+            report.put("decisionThroughput", (decisions(context) - decisionsAtStart) / duration.toSeconds());
+        }
+        return report;
+    }
+    
+    private Map<String, Object> latencyMillis(OperationStats operationStats) {
+        Map<String, Object> latency = new LinkedHashMap<>(operationStats.getPercentilesMillis());
+        latency.put("max", operationStats.getMaxMillis());
+        return latency;
+    }
+    
+    /**
+     * Checks the configured SLO thresholds against the measured results.
+     * 
+     * @param duration the measured period
+     * @return one entry per configured SLO
+     */
+    private List<Map<String, Object>> evaluateSlos(Duration duration) {
+        List<Map<String, Object>> slos = new ArrayList<>();
+        
+        long requests = stats.values().stream().mapToLong(OperationStats::getRequests).sum();
+        long errors = stats.values().stream().mapToLong(OperationStats::getErrors).sum();
+        
+        addMinimumSlo(slos, "slo.min-throughput", requests / (double) duration.toSeconds());
+        addMaximumSlo(slos, "slo.max-error-rate", requests == 0 ? 0.0 : errors / (double) requests);
+        addMaximumSlo(slos, "slo.post-p99-ms", Math.max(
+                p99(Operation.POST_SYNC), p99(Operation.POST_ASYNC)));
+        addMaximumSlo(slos, "slo.get-p99-ms", Math.max(
+                p99(Operation.GET_BY_ID), p99(Operation.GET_BY_ACCOUNT)));
+        if (poolStats.getSamples() > 0) {
+            addMaximumSlo(slos, "slo.max-pool-pending", poolStats.getMaxPending());
+        }
+        return slos;
+    }
+    
+    private double p99(Operation operation) {
+        return stats.get(operation).getPercentilesMillis().getOrDefault("p99", 0.0);
+    }
+    
+    private void addMinimumSlo(List<Map<String, Object>> slos, String key, double actual) {
+        Double threshold = config.getOptionalDouble(key);
+        if (threshold != null) {
+            slos.add(slo(key, threshold, actual, actual >= threshold));
+        }
+    }
+    
+    private void addMaximumSlo(List<Map<String, Object>> slos, String key, double actual) {
+        Double threshold = config.getOptionalDouble(key);
+        if (threshold != null) {
+            slos.add(slo(key, threshold, actual, actual <= threshold));
+        }
+    }
+    
+    private Map<String, Object> slo(String key, double threshold, double actual, boolean passed) {
+        Map<String, Object> slo = new LinkedHashMap<>();
+        slo.put("name", key.substring("slo.".length()));
+        slo.put("threshold", threshold);
+        slo.put("actual", actual);
+        slo.put("passed", passed);
+        return slo;
+    }
+    
+    /**
+     * Prints a human-readable summary of the report.
+     * 
+     * @param report the report
+     */
+    @SuppressWarnings("unchecked")
+    private void printReport(Map<String, Object> report) {
+        System.out.println();
+        System.out.printf("%-16s %10s %8s %10s", "operation", "requests", "errors", "req/s");
+        for (double percentile : OperationStats.PERCENTILES) {
+            System.out.printf(" %9s", OperationStats.percentileName(percentile));
+        }
+        System.out.printf(" %9s%n", "max");
+        
+        Map<String, Object> operations = (Map<String, Object>) report.get("operations");
+        operations.forEach((name, value) -> {
+            Map<String, Object> entry = (Map<String, Object>) value;
+            Map<String, Object> latency = (Map<String, Object>) entry.get("latencyMillis");
+            System.out.printf(Locale.ROOT, "%-16s %10d %8d %10.1f", name, entry.get("requests"), 
+                    entry.get("errors"), entry.get("throughput"));
+            for (double percentile : OperationStats.PERCENTILES) {
+                System.out.printf(Locale.ROOT, " %9.1f", 
+                        (Double) latency.getOrDefault(OperationStats.percentileName(percentile), 0.0));
+            }
+            System.out.printf(Locale.ROOT, " %9.1f%n", latency.get("max"));
+        });
+        System.out.printf(Locale.ROOT, "%ntotal: %d requests, %.1f req/s, error rate %.4f%n",
+                report.get("requests"), report.get("throughput"), report.get("errorRate"));
+        if (report.containsKey("pool")) {
+            System.out.println("pool: " + report.get("pool"));
+        }
+        if (report.containsKey("tomcatThreads")) {
+            System.out.println("tomcat threads: " + report.get("tomcatThreads"));
+        }
+        if (report.containsKey("decisionThroughput")) {
+            System.out.printf(Locale.ROOT, "decisions: %.1f/s%n", report.get("decisionThroughput"));
+        }
+        
+        System.out.println();
+        for (Map<String, Object> slo : (List<Map<String, Object>>) report.get("slos")) {
+            System.out.printf(Locale.ROOT, "SLO %-16s threshold %10.3f actual %10.3f  %s%n", slo.get("name"),
+                    slo.get("threshold"), slo.get("actual"), Boolean.TRUE.equals(slo.get("passed")) ? "PASS" : "FAIL");
+        }
+    }
+    
+    /**
+     * Writes the report as JSON to the configured report file.
+     * 
+     * @param report the report
+     * @throws IOException if the file cannot be written
+     */
+    private void writeReport(Map<String, Object> report) throws IOException {
+        File file = new File(config.getString("report-file"));
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        objectMapper.writeValue(file, report);
+        System.out.println("Report written to " + file.getPath());
+    }
+    
+    /**
+     * Kinds of requests in the mix, with their settings key.
+     */
+    private enum Operation {
+        POST_SYNC("post-sync"),
+        POST_ASYNC("post-async"),
+        GET_BY_ID("get-by-id"),
+        GET_BY_ACCOUNT("get-by-account");
+        
+        private final String key;
+        
+        Operation(String key) {
+            this.key = key;
+        }
+    }
+    
+    /**
+     * Hikari pool samples taken while the load test runs.
+     */
+    private static final class PoolStats {
+        
+        private long samples;
+        private long saturatedSamples;
+        private int maxActive;
+        private int maxTotal;
+        private int maxPending;
+        private double activeSum;
+        
+        synchronized void sample(int active, int total, int pending) {
+            samples++;
+            activeSum += active;
+            maxActive = Math.max(maxActive, active);
+            maxTotal = Math.max(maxTotal, total);
+            maxPending = Math.max(maxPending, pending);
+            if (pending > 0) {
+                saturatedSamples++;
+            }
+        }
+        
+        synchronized long getSamples() {
+            return samples;
+        }
+        
+        synchronized int getMaxPending() {
+            return maxPending;
+        }
+        
+        synchronized Map<String, Object> toMap() {
+            Map<String, Object> pool = new LinkedHashMap<>();
+            pool.put("samples", samples);
+            pool.put("meanActive", samples == 0 ? 0.0 : activeSum / samples);
+            pool.put("maxActive", maxActive);
+            pool.put("maxTotal", maxTotal);
+            pool.put("maxPending", maxPending);
+            pool.put("saturatedRatio", samples == 0 ? 0.0 : saturatedSamples / (double) samples);
+            return pool;
+        }
+    }
+    
+    /**
+     * Samples of the busy threads of a thread pool taken while the load test runs.
+     */
+    private static final class ThreadStats {
+        
+        private long samples;
+        private int maxBusy;
+        private int maxSize;
+        private double busySum;
+        
+        synchronized void sample(int busy, int size) {
+            samples++;
+            busySum += busy;
+            maxBusy = Math.max(maxBusy, busy);
+            maxSize = Math.max(maxSize, size);
+        }
+        
+        synchronized long getSamples() {
+            return samples;
+        }
+        
+        synchronized Map<String, Object> toMap() {
+            Map<String, Object> threads = new LinkedHashMap<>();
+            threads.put("samples", samples);
+            threads.put("meanBusy", samples == 0 ? 0.0 : busySum / samples);
+            threads.put("maxBusy", maxBusy);
+            threads.put("maxSize", maxSize);
+            return threads;
+        }
+    }
+}
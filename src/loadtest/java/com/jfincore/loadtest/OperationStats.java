@@ -0,0 +1,125 @@
+package com.jfincore.loadtest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and error statistics of one kind of request over the measured part of a run.
+ * Latencies of failed requests are recorded too, so percentiles reflect what clients saw.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+public class OperationStats {
+    
+    /**
+     * Percentiles reported for every operation
+     */
+    public static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+    
+    private final Timer timer;
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> errorsByKind = new ConcurrentHashMap<>();
+    
+    /**
+     * Creates the statistics of one operation.
+     * 
+     * @param name the operation name
+     * @param meterRegistry the registry holding the latency timer
+     */
+    public OperationStats(String name, MeterRegistry meterRegistry) {
+        this.timer = Timer.builder("loadtest.latency")
+                .tag("operation", name)
+                .publishPercentiles(PERCENTILES)
+                .percentilePrecision(3)
+                .distributionStatisticExpiry(Duration.ofDays(1))
+                .distributionStatisticBufferLength(1)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Records a completed request.
+     * 
+     * @param latencyNanos the request latency
+     * @param errorKind null if the request succeeded, otherwise a short description of the failure
+     */
+    public void record(long latencyNanos, String errorKind) {
+        timer.record(latencyNanos, TimeUnit.NANOSECONDS);
+        if (errorKind != null) {
+            errors.increment();
+            errorsByKind.computeIfAbsent(errorKind, kind -> new LongAdder()).increment();
+        }
+    }
+    
+    /**
+     * Returns the number of recorded requests.
+     * 
+     * @return the request count
+     */
+    public long getRequests() {
+        return timer.count();
+    }
+    
+    /**
+     * Returns the number of failed requests.
+     * 
+     * @return the error count
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+    
+    /**
+     * Returns the failed requests by kind of failure.
+     * 
+     * @return the error counts, sorted by kind
+     */
+    public Map<String, Long> getErrorsByKind() {
+        Map<String, Long> result = new TreeMap<>();
+        errorsByKind.forEach((kind, count) -> result.put(kind, count.sum()));
+        return result;
+    }
+    
+    /**
+     * Returns the latency percentiles in milliseconds.
+     * 
+     * @return the latency by percentile, e.g. {@code p99}
+     */
+    public Map<String, Double> getPercentilesMillis() {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Map<String, Double> result = new TreeMap<>();
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            result.put(percentileName(value.percentile()), value.value(TimeUnit.MILLISECONDS));
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the maximum latency in milliseconds.
+     * 
+     * @return the maximum latency
+     */
+    public double getMaxMillis() {
+        return timer.max(TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Formats a percentile as its conventional name, e.g. 0.999 as {@code p99.9}.
+     * 
+     * @param percentile the percentile between 0 and 1
+     * @return the percentile name
+     */
+    public static String percentileName(double percentile) {
+        double value = Math.round(percentile * 1000) / 10.0;
+        return "p" + (value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value));
+    }
+}
@@ -0,0 +1,206 @@
+package com.jfincore.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Throughput comparison of synchronous and asynchronous ({@code Prefer: respond-async})
+ * transaction submission.
+ * 
+ * Runs the {@link LoadTestRunner} twice with the same settings, each time against a fresh
+ * in-process application: once with synchronous POSTs only and once with asynchronous
+ * POSTs only. For each response mode it reports the responses and the completed fraud
+ * decisions per second, the POST latencies and the busy Tomcat request threads, followed
+ * by the ratios of the asynchronous to the synchronous run. The process exits with
+ * status 1 when a configured minimum ratio is not reached.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+public class ResponseModeLoadTest {
+    
+    private static final String DEFAULTS = "response-modes.properties";
+    
+    private final String[] args;
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    
+    /**
+     * Creates a response mode load test.
+     * 
+     * @param args {@code key=value} overrides of {@code response-modes.properties}
+     */
+    public ResponseModeLoadTest(String[] args) {
+        this.args = args;
+        this.config = LoadTestConfig.load(DEFAULTS, args);
+    }
+    
+    /**
+     * Runs the comparison and exits with status 1 if a minimum ratio is not reached.
+     * 
+     * @param args {@code key=value} overrides of {@code response-modes.properties}
+     * @throws Exception if a run cannot be completed
+     */
+    public static void main(String[] args) throws Exception {
+        boolean passed = new ResponseModeLoadTest(args).run();
+        System.exit(passed ? 0 : 1);
+    }
+    
+    /**
+     * Runs both response modes and compares them.
+     * 
+     * @return true if all configured minimum ratios are reached
+     * @throws Exception if a run cannot be completed
+     */
+    public boolean run() throws Exception {
+        Map<String, Object> sync = summary(runMode("sync"), "post-sync");
+        Map<String, Object> async = summary(runMode("async"), "post-async");
+        
+        Map<String, Object> ratios = new LinkedHashMap<>();
+        for (String key : sync.keySet()) {
+            ratios.put(key, ratio(async, sync, key));
+        }
+        
+        List<Map<String, Object>> slos = new ArrayList<>();
+        addMinimumSlo(slos, "slo.min-response-throughput-ratio", (Double) ratios.get("throughput"));
+        addMinimumSlo(slos, "slo.min-decision-throughput-ratio", (Double) ratios.get("decisionThroughput"));
+        
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("concurrency", config.getInt("concurrency"));
+        report.put("durationSeconds", config.getDuration("duration").toSeconds());
+        report.put("sync", sync);
+        report.put("async", async);
+        report.put("asyncToSyncRatios", ratios);
+        report.put("slos", slos);
+        
+        printReport(report);
+        writeReport(report);
+        
+        return slos.stream().allMatch(slo -> Boolean.TRUE.equals(slo.get("passed")));
+    }
+    
+    /**
+     * Runs the load test with POSTs of one response mode only.
+     * 
+     * @param mode the response mode, {@code sync} or {@code async}
+     * @return the report of the run
+     * @throws Exception if the run cannot be completed
+     */
+    private Map<String, Object> runMode(String mode) throws Exception {
+        System.out.printf("%n=== %s responses ===%n", mode);
+        String[] modeArgs = Stream.concat(Stream.of(args), Stream.of(
+                "target-url=",
+                "mix.post-sync=" + ("sync".equals(mode) ? 1 : 0),
+                "mix.post-async=" + ("async".equals(mode) ? 1 : 0),
+                "mix.get-by-id=0",
+                "mix.get-by-account=0",
+                "report-file=" + config.getString("report-file").replaceFirst("(\\.json)?$", "-" + mode + ".json")))
+                .toArray(String[]::new);
+        
+        LoadTestRunner runner = new LoadTestRunner(LoadTestConfig.load(DEFAULTS, modeArgs));
+        runner.run();
+        return runner.getReport();
+    }
+    
+    /**
+     * Extracts the compared figures from the report of one run.
+     * 
+     * @param report the report of the run
+     * @param operation the POST operation of the run
+     * @return the compared figures
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> summary(Map<String, Object> report, String operation) {
+        Map<String, Object> operations = (Map<String, Object>) report.get("operations");
+        Map<String, Object> post = (Map<String, Object>) operations.get(operation);
+        Map<String, Object> latency = (Map<String, Object>) post.get("latencyMillis");
+        Map<String, Object> tomcatThreads = (Map<String, Object>) report.getOrDefault("tomcatThreads", Map.of());
+        
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("throughput", report.get("throughput"));
+        summary.put("decisionThroughput", report.get("decisionThroughput"));
+        summary.put("errorRate", report.get("errorRate"));
+        summary.put("p50Millis", latency.get("p50"));
+        summary.put("p99Millis", latency.get("p99"));
+        summary.put("meanBusyTomcatThreads", tomcatThreads.get("meanBusy"));
+        summary.put("maxBusyTomcatThreads", tomcatThreads.get("maxBusy"));
+        return summary;
+    }
+    
+    private static Double ratio(Map<String, Object> async, Map<String, Object> sync, String key) {
+        if (!(async.get(key) instanceof Number asyncValue) || !(sync.get(key) instanceof Number syncValue)
+                || syncValue.doubleValue() == 0) {
+            return null;
+        }
+        return asyncValue.doubleValue() / syncValue.doubleValue();
+    }
+    
+    private void addMinimumSlo(List<Map<String, Object>> slos, String key, Double actual) {
+        Double threshold = config.getOptionalDouble(key);
+        if (threshold != null) {
+            Map<String, Object> slo = new LinkedHashMap<>();
+            slo.put("name", key.substring("slo.".length()));
+            slo.put("threshold", threshold);
+            slo.put("actual", actual);
+            slo.put("passed", actual != null && actual >= threshold);
+            slos.add(slo);
+        }
+    }
+    
+    /**
+     * Prints the comparison side by side.
+     * 
+     * @param report the report
+     */
+    @SuppressWarnings("unchecked")
+    private void printReport(Map<String, Object> report) {
+        Map<String, Object> sync = (Map<String, Object>) report.get("sync");
+        Map<String, Object> async = (Map<String, Object>) report.get("async");
+        Map<String, Object> ratios = (Map<String, Object>) report.get("asyncToSyncRatios");
+        
+        System.out.println();
+        System.out.printf("%-24s %12s %12s %12s%n", "", "sync", "async", "async/sync");
+        for (String key : sync.keySet()) {
+            System.out.printf(Locale.ROOT, "%-24s %12s %12s %12s%n", key, format(sync.get(key)),
+                    format(async.get(key)), format(ratios.get(key)));
+        }
+        
+        System.out.println();
+        for (Map<String, Object> slo : (List<Map<String, Object>>) report.get("slos")) {
+            System.out.printf(Locale.ROOT, "SLO %-32s threshold %10.3f actual %10s  %s%n", slo.get("name"),
+                    slo.get("threshold"), format(slo.get("actual")),
+                    Boolean.TRUE.equals(slo.get("passed")) ? "PASS" : "FAIL");
+        }
+    }
+    
+    private static String format(Object value) {
+        if (value instanceof Double number) {
+            return String.format(Locale.ROOT, "%.3f", number);
+        }
+        return value == null ? "" : value.toString();
+    }
+    
+    /**
+     * Writes the report as JSON to the configured report file.
+     * 
+     * @param report the report
+     * @throws IOException if the file cannot be written
+     */
+    private void writeReport(Map<String, Object> report) throws IOException {
+        File file = new File(config.getString("report-file"));
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        objectMapper.writeValue(file, report);
+        System.out.println("Report written to " + file.getPath());
+    }
+}
@@ -0,0 +1,260 @@
+package com.jfincore.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time-to-first-request benchmark of the packaged application.
+ * 
+ * Launches the application as a separate process for each run, either from the packaged
+ * jar with the configured JVM options or with a complete launch command (e.g. a native
+ * executable), and measures the time from process start until the first successful
+ * response of the transaction API. The resident set size of the process is read from
+ * {@code /proc} right after that first response, where available. The process exits
+ * with status 1 when the median exceeds the configured threshold.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+public class StartupBenchmark {
+    
+    private static final String DEFAULTS = "startup.properties";
+    private static final String PROBE_PATH = "/api/v1/transactions?limit=1";
+    private static final long PROBE_INTERVAL_MILLIS = 10;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+    
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+    
+    /**
+     * Creates a startup benchmark.
+     * 
+     * @param config the benchmark settings
+     */
+    public StartupBenchmark(LoadTestConfig config) {
+        this.config = config;
+    }
+    
+    /**
+     * Runs the benchmark and exits with status 1 if the startup threshold is exceeded.
+     * 
+     * @param args {@code key=value} overrides of {@code startup.properties}
+     * @throws Exception if the run cannot be completed
+     */
+    public static void main(String[] args) throws Exception {
+        boolean passed = new StartupBenchmark(LoadTestConfig.load(DEFAULTS, args)).run();
+        System.exit(passed ? 0 : 1);
+    }
+    
+    /**
+     * Runs the benchmark.
+     * 
+     * @return true if the median time to first request is within the threshold
+     * @throws Exception if the run cannot be completed
+     */
+    public boolean run() throws Exception {
+        int runs = config.getInt("runs");
+        List<String> command = command();
+        System.out.printf("Startup benchmark, %d runs of: %s%n", runs, String.join(" ", command));
+        
+        List<Double> startupMillis = new ArrayList<>();
+        List<Double> rssMegabytes = new ArrayList<>();
+        for (int run = 1; run <= runs; run++) {
+            Measurement measurement = measure(command);
+            startupMillis.add(measurement.startupMillis());
+            if (measurement.rssMegabytes() != null) {
+                rssMegabytes.add(measurement.rssMegabytes());
+            }
+            System.out.printf(Locale.ROOT, "run %2d: first request after %8.1f ms, RSS %s%n", run,
+                    measurement.startupMillis(), measurement.rssMegabytes() == null
+                            ? "n/a" : String.format(Locale.ROOT, "%.1f MB", measurement.rssMegabytes()));
+        }
+        
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("command", command);
+        report.put("runs", runs);
+        report.put("timeToFirstRequestMillis", summary(startupMillis));
+        report.put("rssMegabytes", rssMegabytes.isEmpty() ? null : summary(rssMegabytes));
+        
+        double median = median(startupMillis);
+        Double threshold = config.getOptionalDouble("slo.max-startup-ms");
+        boolean passed = threshold == null || median <= threshold;
+        if (threshold != null) {
+            Map<String, Object> slo = new LinkedHashMap<>();
+            slo.put("name", "max-startup-ms");
+            slo.put("threshold", threshold);
+            slo.put("actual", median);
+            slo.put("passed", passed);
+            report.put("slos", List.of(slo));
+        }
+        
+        System.out.println();
+        System.out.printf(Locale.ROOT, "time to first request: median %.1f ms %s%n", median, summary(startupMillis));
+        if (!rssMegabytes.isEmpty()) {
+            System.out.printf(Locale.ROOT, "RSS after first request: median %.1f MB %s%n",
+                    median(rssMegabytes), summary(rssMegabytes));
+        }
+        if (threshold != null) {
+            System.out.printf(Locale.ROOT, "SLO %-16s threshold %10.3f actual %10.3f  %s%n", "max-startup-ms",
+                    threshold, median, passed ? "PASS" : "FAIL");
+        }
+        writeReport(report);
+        
+        return passed;
+    }
+    
+    /**
+     * Builds the launch command: the configured command, or the packaged jar run with the
+     * configured JVM options, followed by the port and the application overrides.
+     * 
+     * @return the command and its arguments
+     */
+    private List<String> command() {
+        List<String> command = new ArrayList<>();
+        String launch = config.getString("command");
+        if (launch != null) {
+            command.addAll(split(launch));
+        } else {
+            command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+            String javaOptions = config.getString("java-options");
+            if (javaOptions != null) {
+                command.addAll(split(javaOptions));
+            }
+            command.add("-jar");
+            command.add(config.getString("app-jar"));
+        }
+        command.add("--server.port=" + config.getInt("port"));
+        command.addAll(config.getApplicationArgs());
+        return command;
+    }
+    
+    /**
+     * Starts the application, waits for its first successful response and stops it.
+     * 
+     * @param command the launch command
+     * @return the time to first request and the resident set size at that point
+     * @throws Exception if the application does not answer within the timeout
+     */
+    private Measurement measure(List<String> command) throws Exception {
+        Duration timeout = config.getDuration("timeout");
+        HttpRequest probe = HttpRequest.newBuilder(URI.create("http://localhost:" + config.getInt("port") + PROBE_PATH))
+                .timeout(timeout)
+                .GET()
+                .build();
+        ProcessBuilder processBuilder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        
+        long start = System.nanoTime();
+        Process process = processBuilder.start();
+        try {
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with status " + process.exitValue());
+                }
+                if (System.nanoTime() - start > timeout.toNanos()) {
+                    throw new IllegalStateException("Application did not answer within " + timeout);
+                }
+                try {
+                    if (httpClient.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        break;
+                    }
+                } catch (IOException e) {
+                    // Not listening yet
+                }
+                Thread.sleep(PROBE_INTERVAL_MILLIS);
+            }
+            double startupMillis = (System.nanoTime() - start) / 1_000_000.0;
+            return new Measurement(startupMillis, rssMegabytes(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+    
+    /**
+     * Reads the resident set size of a process from {@code /proc/<pid>/status}.
+     * 
+     * @param pid the process id
+     * @return the resident set size in megabytes, or null where not available
+     */
+    private static Double rssMegabytes(long pid) {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.isReadable(status)) {
+            return null;
+        }
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    String kilobytes = line.substring("VmRSS:".length()).replace("kB", "").trim();
+                    return Long.parseLong(kilobytes) / 1024.0;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Process gone or unexpected format
+        }
+        return null;
+    }
+    
+    private static List<String> split(String arguments) {
+        return Arrays.stream(arguments.trim().split("\\s+")).toList();
+    }
+    
+    private static Map<String, Object> summary(List<Double> values) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("min", values.stream().mapToDouble(Double::doubleValue).min().orElse(0.0));
+        summary.put("median", median(values));
+        summary.put("max", values.stream().mapToDouble(Double::doubleValue).max().orElse(0.0));
+        return summary;
+    }
+    
+    private static double median(List<Double> values) {
+        List<Double> sorted = values.stream().sorted().toList();
+        int middle = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+    }
+    
+    /**
+     * Writes the report as JSON to the configured report file.
+     * 
+     * @param report the report
+     * @throws IOException if the file cannot be written
+     */
+    private void writeReport(Map<String, Object> report) throws IOException {
+        File file = new File(config.getString("report-file"));
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        objectMapper.writeValue(file, report);
+        System.out.println("Report written to " + file.getPath());
+    }
+    
+    /**
+     * Result of one run.
+     */
+    private record Measurement(double startupMillis, Double rssMegabytes) {
+    }
+}
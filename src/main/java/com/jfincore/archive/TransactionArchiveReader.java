@@ -0,0 +1,69 @@
+package com.jfincore.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jfincore.dto.TransactionResponseDTO;
+import com.jfincore.entity.TransactionArchive;
+import com.jfincore.repository.TransactionArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads archived transactions back from the archive files written by the
+ * {@link TransactionPartitionManager}. The archive directory must be reachable
+ * from every instance serving archived ranges. Created on the first archived read.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Component
+@Lazy
+@RequiredArgsConstructor
+public class TransactionArchiveReader {
+    
+    private static final int ARCHIVE_BUFFER_SIZE = 64 * 1024;
+    
+    private final TransactionArchiveRepository transactionArchiveRepository;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Streams the archived transactions created within a time range, newest first.
+     * 
+     * @param from the inclusive lower bound of the range
+     * @param to the exclusive upper bound of the range
+     * @param consumer the consumer receiving each transaction
+     * @throws UncheckedIOException if an archive file cannot be read
+     */
+    public void stream(LocalDateTime from, LocalDateTime to, Consumer<TransactionResponseDTO> consumer) {
+        for (TransactionArchive archive : transactionArchiveRepository.findOverlapping(from, to)) {
+            Path file = Path.of(archive.getFilePath());
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(file), ARCHIVE_BUFFER_SIZE), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    TransactionResponseDTO transaction = objectMapper.readValue(line, TransactionResponseDTO.class);
+                    if (transaction.getTimestamp().isBefore(from)) {
+                        // Files are written newest first
+                        break;
+                    }
+                    if (transaction.getTimestamp().isBefore(to)) {
+                        consumer.accept(transaction);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read transaction archive: " + file, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.jfincore.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jfincore.config.PartitioningProperties;
+import com.jfincore.dto.TransactionResponseDTO;
+import com.jfincore.entity.TransactionArchive;
+import com.jfincore.entity.TransactionStatus;
+import com.jfincore.repository.TransactionArchiveRepository;
+import com.jfincore.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Background job maintaining the monthly RANGE partitions of the MySQL transactions table.
+ * 
+ * Partitions for the coming months are split off the catch-all {@code p_future} partition
+ * ahead of time, so it stays empty and splitting it moves no rows. Partitions older than
+ * the retention period are archived oldest first: their rows are streamed to a compressed
+ * NDJSON file, the totals of their final transactions are added to the archived balances
+ * and the archive is recorded, and only then are their idempotency keys released and the
+ * partition dropped. Each step can be repeated, so a run interrupted at any point is
+ * completed by the next one. A partition still holding PENDING transactions is kept,
+ * together with all newer ones, until recovery has decided them.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "jfincore.partitioning", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(PartitioningProperties.class)
+public class TransactionPartitionManager {
+    
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final int ARCHIVE_BUFFER_SIZE = 64 * 1024;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionArchiveRepository transactionArchiveRepository;
+    private final ObjectMapper objectMapper;
+    private final PartitioningProperties properties;
+    
+    /**
+     * Creates the upcoming partitions and archives the expired ones, at startup and then
+     * at the configured interval (ISO-8601 duration).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${jfincore.partitioning.maintenance-interval:PT6H}",
+               fixedDelayString = "${jfincore.partitioning.maintenance-interval:PT6H}")
+    public void maintain() {
+        try {
+            createPartitions();
+            archiveExpiredPartitions();
+        } catch (RuntimeException e) {
+            log.error("Transaction partition maintenance failed", e);
+        }
+    }
+    
+    /**
+     * Splits a partition for each month up to the configured number of months ahead
+     * off the {@code p_future} partition.
+     */
+    void createPartitions() {
+        List<Partition> partitions = listPartitions();
+        if (partitions.isEmpty() || !FUTURE_PARTITION.equals(partitions.get(partitions.size() - 1).name())) {
+            log.warn("Transactions table is not partitioned by month, skipping partition maintenance");
+            return;
+        }
+        
+        LocalDateTime lastBound = partitions.size() > 1 ? partitions.get(partitions.size() - 2).rangeEnd() : null;
+        YearMonth month = lastBound != null ? YearMonth.from(lastBound) : YearMonth.now();
+        YearMonth lastMonth = YearMonth.now().plusMonths(properties.getMonthsAhead());
+        
+        List<String> definitions = new ArrayList<>();
+        for (; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            definitions.add("PARTITION " + PARTITION_NAME.format(month)
+                    + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')");
+        }
+        if (definitions.isEmpty()) {
+            return;
+        }
+        definitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+        
+        jdbcTemplate.execute("ALTER TABLE transactions REORGANIZE PARTITION " + FUTURE_PARTITION
+                + " INTO (" + String.join(", ", definitions) + ")");
+        
+        log.info("Created {} transaction partitions up to {}", definitions.size() - 1, lastMonth);
+    }
+    
+    /**
+     * Archives and drops, oldest first, the partitions holding only months past the retention period.
+     * Stops at the first one still holding PENDING transactions, which the next run tries again.
+     */
+    void archiveExpiredPartitions() {
+        LocalDateTime cutoff = YearMonth.now().minusMonths(properties.getRetentionMonths()).atDay(1).atStartOfDay();
+        LocalDateTime rangeStart = null;
+        
+        for (Partition partition : listPartitions()) {
+            if (partition.rangeEnd() == null || partition.rangeEnd().isAfter(cutoff)) {
+                break;
+            }
+            // Their decision would be lost with the partition and missing from the archived balances
+            long pending = countPending(partition);
+            if (pending > 0) {
+                log.warn("Transaction partition {} still holds {} PENDING transactions, "
+                        + "postponing its archiving to the next run", partition.name(), pending);
+                break;
+            }
+            if (!transactionArchiveRepository.existsById(partition.name())) {
+                if (rangeStart == null) {
+                    rangeStart = transactionArchiveRepository.findArchivedUntil().orElse(null);
+                }
+                archive(partition, rangeStart);
+            }
+            releaseIdempotencyKeys(partition);
+            jdbcTemplate.execute("ALTER TABLE transactions DROP PARTITION " + partition.name());
+            log.info("Dropped archived transaction partition {}", partition.name());
+            rangeStart = partition.rangeEnd();
+        }
+    }
+    
+    /**
+     * Counts the transactions of a partition not decided yet.
+     * 
+     * @param partition the partition
+     * @return the number of PENDING transactions in the partition
+     */
+    private long countPending(Partition partition) {
+        Long pending = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transactions PARTITION ("
+                + partition.name() + ") WHERE status = 'PENDING'", Long.class);
+        return pending != null ? pending : 0;
+    }
+    
+    /**
+     * Writes a partition to its archive file, then records the archive together with the
+     * archived balance totals.
+     * 
+     * @param partition the partition to archive
+     * @param rangeStart the inclusive lower bound of the partition, null if unbounded
+     */
+    private void archive(Partition partition, LocalDateTime rangeStart) {
+        Path file = properties.getArchiveDirectory().resolve("transactions-" + partition.name() + ".ndjson.gz");
+        long count = writeArchiveFile(partition.name(), file);
+        
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO archived_balances (account_id, status, total_amount, transaction_count) "
+                    + "SELECT account_id, status, SUM(amount), COUNT(*) FROM transactions PARTITION (" + partition.name() + ") "
+                    + "WHERE status <> 'PENDING' GROUP BY account_id, status "
+                    + "ON DUPLICATE KEY UPDATE total_amount = archived_balances.total_amount + VALUES(total_amount), "
+                    + "transaction_count = archived_balances.transaction_count + VALUES(transaction_count)");
+            transactionArchiveRepository.save(new TransactionArchive(
+                    partition.name(), rangeStart, partition.rangeEnd(), file.toString(), count, LocalDateTime.now()));
+        });
+        
+        log.info("Archived {} transactions of partition {} to {}", count, partition.name(), file);
+    }
+    
+    /**
+     * Releases the idempotency keys of the transactions of a partition. Dropping a partition
+     * does not fire the delete trigger releasing them, so this runs before every drop, including
+     * the drop of a partition archived by an earlier, interrupted run.
+     * 
+     * @param partition the partition about to be dropped
+     */
+    private void releaseIdempotencyKeys(Partition partition) {
+        int released = jdbcTemplate.update("DELETE k FROM transaction_idempotency_keys k "
+                + "JOIN transactions PARTITION (" + partition.name() + ") t ON t.id = k.transaction_id");
+        log.debug("Released {} idempotency keys of transaction partition {}", released, partition.name());
+    }
+    
+    /**
+     * Streams the rows of a partition, newest first, to a gzip-compressed NDJSON file.
+     * The file is synced and then moved into place, so it is either complete or absent.
+     * 
+     * @param partitionName the partition to write
+     * @param file the archive file
+     * @return the number of archived transactions
+     */
+    private long writeArchiveFile(String partitionName, Path file) {
+        long[] count = {0};
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), partitionName, ".tmp");
+            
+            try (FileOutputStream fileStream = new FileOutputStream(tempFile.toFile())) {
+                GZIPOutputStream gzipStream = new GZIPOutputStream(fileStream, ARCHIVE_BUFFER_SIZE);
+                OutputStream outputStream = new BufferedOutputStream(gzipStream, ARCHIVE_BUFFER_SIZE);
+                
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            "SELECT id, account_id, amount, status, timestamp FROM transactions PARTITION ("
+                                    + partitionName + ") ORDER BY timestamp DESC, id DESC");
+                    statement.setFetchSize(Integer.parseInt(TransactionRepository.STREAM_FETCH_SIZE));
+                    return statement;
+                }, (RowCallbackHandler) resultSet -> {
+                    TransactionResponseDTO transaction = new TransactionResponseDTO(
+                            toUuid(resultSet.getBytes("id")),
+                            resultSet.getString("account_id"),
+                            resultSet.getBigDecimal("amount"),
+                            TransactionStatus.valueOf(resultSet.getString("status")),
+                            resultSet.getTimestamp("timestamp").toLocalDateTime());
+                    try {
+                        outputStream.write(objectMapper.writeValueAsBytes(transaction));
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    count[0]++;
+                });
+                
+                outputStream.flush();
+                gzipStream.finish();
+                fileStream.getFD().sync();
+            }
+            
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write transaction archive: " + file, e);
+        }
+        return count[0];
+    }
+    
+    /**
+     * Lists the partitions of the transactions table in range order.
+     * 
+     * @return the partitions, empty if the table is not partitioned
+     */
+    private List<Partition> listPartitions() {
+        return jdbcTemplate.query("SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM INFORMATION_SCHEMA.PARTITIONS "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'transactions' AND PARTITION_NAME IS NOT NULL "
+                        + "ORDER BY PARTITION_ORDINAL_POSITION",
+                (resultSet, rowNum) -> new Partition(resultSet.getString(1), parseBound(resultSet.getString(2))));
+    }
+    
+    /**
+     * Parses the upper bound of a RANGE COLUMNS partition, e.g. {@code '2026-11-01 00:00:00'}.
+     * 
+     * @param description the partition description
+     * @return the exclusive upper bound, or null for MAXVALUE
+     */
+    private static LocalDateTime parseBound(String description) {
+        String value = description.replace("'", "").trim();
+        if ("MAXVALUE".equalsIgnoreCase(value)) {
+            return null;
+        }
+        return value.length() == 10
+                ? LocalDate.parse(value).atStartOfDay()
+                : LocalDateTime.parse(value.replace(' ', 'T'));
+    }
+    
+    /**
+     * Converts a BINARY(16) identifier, stored most significant bits first, to a UUID.
+     * 
+     * @param bytes the stored identifier
+     * @return the UUID
+     */
+    private static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+    
+    /**
+     * A partition of the transactions table.
+     * 
+     * @param name the partition name
+     * @param rangeEnd the exclusive upper bound of its timestamps, null for MAXVALUE
+     */
+    private record Partition(String name, LocalDateTime rangeEnd) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.jfincore.config;
+
+import com.jfincore.logging.MdcTaskDecorator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Configuration for asynchronous transaction processing.
+ * Provides the bounded executor used to run fraud decisions in the background
+ * so that request threads are released as soon as a transaction is accepted.
+ * 
+ * When {@code spring.threads.virtual.enabled=true} (Java 21+), fraud decisions run
+ * on virtual threads instead of a platform thread pool, matching the Tomcat
+ * request executor configured by Spring Boot.
+ * 
+ * Either way, tasks inherit the submitting request's MDC so that background log lines
+ * carry the request's correlation id.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(AsyncProperties.class)
+public class AsyncConfig {
+    
+    /**
+     * Creates the platform thread executor that applies fraud decisions for accepted transactions.
+     * Submissions beyond the queue capacity are rejected instead of blocking the caller.
+     * 
+     * @param properties the asynchronous processing properties
+     * @return the fraud check executor
+     */
+    @Bean(name = "fraudCheckExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor platformFraudCheckExecutor(AsyncProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getCorePoolSize());
+        executor.setMaxPoolSize(properties.getMaxPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("fraud-check-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(properties.getAwaitTerminationSeconds());
+        return executor;
+    }
+    
+    /**
+     * Creates the virtual thread executor that applies fraud decisions for accepted transactions.
+     * Each decision gets its own virtual thread; submissions beyond the concurrency limit are
+     * rejected instead of blocking the caller, as with the platform executor.
+     * 
+     * @param properties the asynchronous processing properties
+     * @return the fraud check executor
+     */
+    @Bean(name = "fraudCheckExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualFraudCheckExecutor(AsyncProperties properties) {
+        SimpleAsyncTaskExecutor executor = new BoundedVirtualTaskExecutor(properties.getVirtualConcurrencyLimit());
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setTaskTerminationTimeout(properties.getAwaitTerminationSeconds() * 1000L);
+        return executor;
+    }
+    
+    /**
+     * Thread-per-task executor that rejects tasks while the limit of running tasks is reached.
+     * The concurrency limit of {@link SimpleAsyncTaskExecutor} blocks the submitter instead.
+     */
+    static class BoundedVirtualTaskExecutor extends SimpleAsyncTaskExecutor {
+        
+        private final Semaphore permits;
+        
+        BoundedVirtualTaskExecutor(int concurrencyLimit) {
+            super("fraud-check-");
+            this.permits = new Semaphore(concurrencyLimit);
+        }
+        
+        @Override
+        protected void doExecute(Runnable task) {
+            if (!permits.tryAcquire()) {
+                throw new TaskRejectedException("Fraud check concurrency limit reached");
+            }
+            try {
+                super.doExecute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException | Error e) {
+                permits.release();
+                throw e;
+            }
+        }
+    }
+}
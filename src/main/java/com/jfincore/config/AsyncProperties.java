@@ -0,0 +1,97 @@
+package com.jfincore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for asynchronous transaction processing.
+ * Controls the sizing of the bounded executor that applies fraud decisions
+ * for transactions accepted with the {@code Prefer: respond-async} header
+ * or through the batch submission endpoint, and how long a transaction waits
+ * for other transactions of the same account.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "jfincore.async")
+public class AsyncProperties {
+    
+    /**
+     * Number of threads kept alive to run fraud decisions
+     */
+    private int corePoolSize = 16;
+    
+    /**
+     * Maximum number of threads used once the queue is full
+     */
+    private int maxPoolSize = 64;
+    
+    /**
+     * Maximum number of accepted transactions waiting for a fraud decision, in the executor
+     * queue and, separately, queued behind earlier transactions of their account
+     */
+    private int queueCapacity = 1000;
+    
+    /**
+     * Maximum number of concurrent fraud decisions when running on virtual threads; further
+     * submissions are rejected like those beyond the queue capacity of the platform executor
+     */
+    private int virtualConcurrencyLimit = 1000;
+    
+    /**
+     * Seconds to wait for in-flight fraud decisions on shutdown
+     */
+    private int awaitTerminationSeconds = 30;
+    
+    /**
+     * Maximum number of transactions accepted in a single batch submission
+     */
+    private int batchMaxItems = 1000;
+    
+    /**
+     * Maximum time a synchronous request waits for earlier transactions of the same account
+     */
+    private Duration accountLockTimeout = Duration.ofSeconds(30);
+    
+    /**
+     * Recovery of transactions left PENDING
+     */
+    private final Recovery recovery = new Recovery();
+    
+    /**
+     * Settings of the periodic sweep that queues a new fraud decision for transactions
+     * left PENDING, e.g. accepted before a restart or whose decision failed.
+     */
+    @Data
+    public static class Recovery {
+        
+        /**
+         * Whether PENDING transactions are recovered
+         */
+        private boolean enabled = true;
+        
+        /**
+         * Delay of the first sweep after startup
+         */
+        private Duration initialDelay = Duration.ofSeconds(10);
+        
+        /**
+         * Delay between the end of one sweep and the start of the next
+         */
+        private Duration interval = Duration.ofMinutes(1);
+        
+        /**
+         * Minimum age of a recovered transaction; must exceed the time any instance needs
+         * to decide a transaction it has queued, so that in-flight work is left alone
+         */
+        private Duration minimumAge = Duration.ofMinutes(5);
+        
+        /**
+         * Maximum number of transactions queued per sweep
+         */
+        private int batchSize = 500;
+    }
+}
@@ -0,0 +1,102 @@
+package com.jfincore.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.jfincore.dto.TransactionResponseDTO;
+import com.jfincore.entity.TransactionStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Configuration for in-process caches.
+ * Provides the bounded read-through cache in front of transaction lookups by id,
+ * with a time to live that depends on the transaction status, and the bounded
+ * idempotency index that collapses retried transaction requests.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties({TransactionCacheProperties.class, IdempotencyProperties.class})
+public class CacheConfig {
+    
+    /**
+     * Name of the transaction cache in metrics
+     */
+    public static final String TRANSACTION_CACHE = "transactions";
+    
+    /**
+     * Name of the idempotency cache in metrics
+     */
+    public static final String IDEMPOTENCY_CACHE = "idempotency";
+    
+    /**
+     * Creates the transaction cache and registers its hit, miss and eviction metrics.
+     * 
+     * @param properties the transaction cache properties
+     * @param meterRegistry the meter registry
+     * @return the transaction cache
+     */
+    @Bean
+    public Cache<UUID, TransactionResponseDTO> transactionCache(TransactionCacheProperties properties,
+                                                                MeterRegistry meterRegistry) {
+        long terminalTtlNanos = properties.getTerminalTtl().toNanos();
+        long pendingTtlNanos = properties.getPendingTtl().toNanos();
+        
+        Cache<UUID, TransactionResponseDTO> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new Expiry<UUID, TransactionResponseDTO>() {
+                    @Override
+                    public long expireAfterCreate(UUID key, TransactionResponseDTO value, long currentTime) {
+                        return value.getStatus() == TransactionStatus.PENDING ? pendingTtlNanos : terminalTtlNanos;
+                    }
+                    
+                    @Override
+                    public long expireAfterUpdate(UUID key, TransactionResponseDTO value, 
+                                                  long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+                    
+                    @Override
+                    public long expireAfterRead(UUID key, TransactionResponseDTO value, 
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, TRANSACTION_CACHE);
+        return cache;
+    }
+    
+    /**
+     * Creates the idempotency index, mapping each Idempotency-Key to the execution it started.
+     * In-flight executions are held as incomplete futures, so concurrent duplicates attach
+     * to the same result instead of running again.
+     * 
+     * @param properties the idempotency properties
+     * @param meterRegistry the meter registry
+     * @return the idempotency cache
+     */
+    @Bean
+    public Cache<String, CompletableFuture<TransactionResponseDTO>> idempotencyCache(
+            IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        
+        Cache<String, CompletableFuture<TransactionResponseDTO>> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, IDEMPOTENCY_CACHE);
+        return cache;
+    }
+}
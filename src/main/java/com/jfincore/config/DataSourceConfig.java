@@ -0,0 +1,108 @@
+package com.jfincore.config;
+
+import com.jfincore.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration for the database connection pools.
+ * By default the auto-configured primary pool serves all queries. With a read replica
+ * enabled, the primary and the replica each get their own Hikari pool, registered with
+ * its own pool metrics, and the application DataSource routes read-only transactions
+ * to the replica.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class DataSourceConfig {
+    
+    /**
+     * Primary and replica pools behind a read/write routing DataSource, replacing the
+     * auto-configured DataSource.
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "jfincore.datasource.replica", name = "enabled", havingValue = "true")
+    static class ReplicaRoutingConfiguration {
+        
+        /**
+         * Binds the primary connection settings from {@code spring.datasource}.
+         * 
+         * @return the primary connection properties
+         */
+        @Bean
+        @Primary
+        @ConfigurationProperties("spring.datasource")
+        public DataSourceProperties primaryDataSourceProperties() {
+            return new DataSourceProperties();
+        }
+        
+        /**
+         * Creates the primary pool, configured from {@code spring.datasource.hikari}.
+         * 
+         * @param properties the primary connection properties
+         * @return the primary pool
+         */
+        @Bean
+        @ConfigurationProperties("spring.datasource.hikari")
+        public HikariDataSource primaryDataSource(
+                @Qualifier("primaryDataSourceProperties") DataSourceProperties properties) {
+            return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        }
+        
+        /**
+         * Binds the replica connection settings from {@code jfincore.datasource.replica}.
+         * 
+         * @return the replica connection properties
+         */
+        @Bean
+        @ConfigurationProperties("jfincore.datasource.replica")
+        public DataSourceProperties replicaDataSourceProperties() {
+            return new DataSourceProperties();
+        }
+        
+        /**
+         * Creates the replica pool, configured from {@code jfincore.datasource.replica.hikari}.
+         * 
+         * @param properties the replica connection properties
+         * @return the replica pool
+         */
+        @Bean
+        @ConfigurationProperties("jfincore.datasource.replica.hikari")
+        public HikariDataSource replicaDataSource(
+                @Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+            return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        }
+        
+        /**
+         * Creates the application DataSource, routing each transaction when it first
+         * touches the database.
+         * 
+         * @param primary the primary pool
+         * @param replica the replica pool
+         * @param meterRegistry the meter registry for routing metrics
+         * @return the routing DataSource
+         */
+        @Bean
+        @Primary
+        public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                     @Qualifier("replicaDataSource") DataSource replica,
+                                     MeterRegistry meterRegistry) {
+            ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary, replica, meterRegistry);
+            routingDataSource.afterPropertiesSet();
+            return new LazyConnectionDataSourceProxy(routingDataSource);
+        }
+    }
+}
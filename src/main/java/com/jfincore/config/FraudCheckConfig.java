@@ -0,0 +1,162 @@
+package com.jfincore.config;
+
+import com.jfincore.fraud.BatchingFraudChecker;
+import com.jfincore.fraud.DirectFraudChecker;
+import com.jfincore.fraud.FraudChecker;
+import com.jfincore.fraud.LegacyFraudClient;
+import com.jfincore.fraud.ResilientFraudChecker;
+import com.jfincore.fraud.SimulatedLegacyFraudClient;
+import com.jfincore.fraud.VelocityRulesEngine;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Configuration for fraud detection.
+ * Wires the local {@link VelocityRulesEngine}, the legacy fraud system client and the
+ * {@link FraudChecker} implementation selected by {@code jfincore.fraud.mode},
+ * optionally guarded by a {@link ResilientFraudChecker}.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(FraudProperties.class)
+public class FraudCheckConfig {
+    
+    /**
+     * Resilience4j instance name used for the circuit breaker, bulkhead and time limiter
+     */
+    public static final String LEGACY_FRAUD_INSTANCE = "legacyFraud";
+    
+    /**
+     * Creates the local velocity rules engine.
+     * 
+     * @param properties the fraud properties
+     * @param meterRegistry the meter registry for rule decision metrics
+     * @return the velocity rules engine
+     */
+    @Bean
+    public VelocityRulesEngine velocityRulesEngine(FraudProperties properties, MeterRegistry meterRegistry) {
+        FraudProperties.Rules rules = properties.getRules();
+        return new VelocityRulesEngine(
+                rules.isEnabled(),
+                rules.getWindow(),
+                rules.getMaxTransactionsPerWindow(),
+                rules.getMaxAmountPerWindow(),
+                rules.getMinInterval(),
+                rules.getAutoApproveAmount(),
+                rules.getMaximumAccounts(),
+                Clock.systemDefaultZone(),
+                meterRegistry);
+    }
+    
+    /**
+     * Creates the simulated legacy fraud client unless a real client is provided.
+     * 
+     * @param properties the fraud properties
+     * @return the legacy fraud client
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public LegacyFraudClient legacyFraudClient(FraudProperties properties) {
+        return new SimulatedLegacyFraudClient(
+                properties.getLegacyLatency(),
+                properties.getSuspiciousAmountThreshold(),
+                properties.getRejectionProbability());
+    }
+    
+    /**
+     * Creates a fraud checker that calls the legacy system once per transaction.
+     * 
+     * @param legacyFraudClient the legacy fraud client
+     * @return the fraud checker
+     */
+    @Bean(name = "legacyFraudChecker")
+    @ConditionalOnProperty(prefix = "jfincore.fraud", name = "mode", havingValue = "direct", matchIfMissing = true)
+    public FraudChecker directFraudChecker(LegacyFraudClient legacyFraudClient) {
+        return new DirectFraudChecker(legacyFraudClient);
+    }
+    
+    /**
+     * Creates a fraud checker that scores transactions in micro-batches.
+     * 
+     * @param legacyFraudClient the legacy fraud client
+     * @param properties the fraud properties
+     * @param timeLimiterRegistry the time limiter registry holding the legacy call timeout
+     * @param meterRegistry the meter registry for batch metrics
+     * @return the fraud checker
+     */
+    @Bean(name = "legacyFraudChecker")
+    @ConditionalOnProperty(prefix = "jfincore.fraud", name = "mode", havingValue = "batching")
+    public BatchingFraudChecker batchingFraudChecker(LegacyFraudClient legacyFraudClient,
+                                                     FraudProperties properties,
+                                                     TimeLimiterRegistry timeLimiterRegistry,
+                                                     MeterRegistry meterRegistry) {
+        FraudProperties.Batch batch = properties.getBatch();
+        // A check waits for its batch to fill up and for one legacy call
+        Duration legacyTimeout = timeLimiterRegistry.timeLimiter(LEGACY_FRAUD_INSTANCE)
+                .getTimeLimiterConfig()
+                .getTimeoutDuration();
+        return new BatchingFraudChecker(
+                legacyFraudClient,
+                batch.getMaxSize(),
+                batch.getMaxWait(),
+                batch.getMaxWait().plus(legacyTimeout),
+                batch.getMaxConcurrentBatches(),
+                batch.getQueueCapacity(),
+                meterRegistry);
+    }
+    
+    /**
+     * Creates the fraud checker that guards legacy calls with a timeout, a bulkhead
+     * and a circuit breaker, and applies the fallback policy when they trip.
+     * 
+     * @param legacyFraudChecker the fraud checker calling the legacy system
+     * @param properties the fraud properties
+     * @param circuitBreakerRegistry the circuit breaker registry
+     * @param bulkheadRegistry the bulkhead registry
+     * @param timeLimiterRegistry the time limiter registry
+     * @param meterRegistry the meter registry for transition and fallback counters
+     * @param environment the environment, used to detect virtual thread mode
+     * @return the resilient fraud checker
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "jfincore.fraud.resilience", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public ResilientFraudChecker resilientFraudChecker(@Qualifier("legacyFraudChecker") FraudChecker legacyFraudChecker,
+                                                       FraudProperties properties,
+                                                       CircuitBreakerRegistry circuitBreakerRegistry,
+                                                       BulkheadRegistry bulkheadRegistry,
+                                                       TimeLimiterRegistry timeLimiterRegistry,
+                                                       MeterRegistry meterRegistry,
+                                                       Environment environment) {
+        // Concurrency is bounded by the bulkhead, so a thread per call is sufficient
+        SimpleAsyncTaskExecutor callExecutor = new SimpleAsyncTaskExecutor("fraud-call-");
+        callExecutor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        
+        return new ResilientFraudChecker(
+                legacyFraudChecker,
+                circuitBreakerRegistry.circuitBreaker(LEGACY_FRAUD_INSTANCE),
+                bulkheadRegistry.bulkhead(LEGACY_FRAUD_INSTANCE),
+                timeLimiterRegistry.timeLimiter(LEGACY_FRAUD_INSTANCE),
+                callExecutor,
+                properties.getResilience().getFallback(),
+                properties.getSuspiciousAmountThreshold(),
+                meterRegistry);
+    }
+}
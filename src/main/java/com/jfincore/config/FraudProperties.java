@@ -0,0 +1,160 @@
+package com.jfincore.config;
+
+import com.jfincore.fraud.FraudFallbackPolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * Configuration properties for fraud detection.
+ * Selects the fraud checker implementation and tunes the local velocity rules,
+ * the simulated legacy fraud system, the micro-batching engine and the resilience
+ * policy around legacy calls.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "jfincore.fraud")
+public class FraudProperties {
+    
+    /**
+     * Fraud checker implementation to use
+     */
+    private Mode mode = Mode.DIRECT;
+    
+    /**
+     * Amounts above this value may be flagged as fraud
+     */
+    private BigDecimal suspiciousAmountThreshold = new BigDecimal("5000.00");
+    
+    /**
+     * Probability of flagging a transaction above the suspicious threshold
+     */
+    private double rejectionProbability = 0.3;
+    
+    /**
+     * Simulated latency of each call to the legacy fraud system
+     */
+    private Duration legacyLatency = Duration.ofMillis(2000);
+    
+    /**
+     * Local velocity rules evaluated before the legacy fraud system is consulted
+     */
+    private final Rules rules = new Rules();
+    
+    /**
+     * Micro-batching settings, used when mode is BATCHING
+     */
+    private final Batch batch = new Batch();
+    
+    /**
+     * Timeout, bulkhead and circuit breaker settings around legacy calls
+     */
+    private final Resilience resilience = new Resilience();
+    
+    /**
+     * Available fraud checker implementations.
+     */
+    public enum Mode {
+        /**
+         * One legacy call per transaction
+         */
+        DIRECT,
+        
+        /**
+         * One legacy call per micro-batch of transactions
+         */
+        BATCHING
+    }
+    
+    /**
+     * Local velocity rules settings. Each rule looks at the account's transactions
+     * within the sliding window, including the one being checked.
+     */
+    @Data
+    public static class Rules {
+        
+        /**
+         * Whether the local rules decide obvious cases; if not, every check goes to the legacy system
+         */
+        private boolean enabled = true;
+        
+        /**
+         * Length of the per-account sliding window
+         */
+        private Duration window = Duration.ofHours(1);
+        
+        /**
+         * Transactions beyond this count within the window are rejected
+         */
+        private int maxTransactionsPerWindow = 20;
+        
+        /**
+         * Transactions taking the window total above this amount are rejected
+         */
+        private BigDecimal maxAmountPerWindow = new BigDecimal("20000.00");
+        
+        /**
+         * Transactions following the previous one faster than this go to the legacy system
+         */
+        private Duration minInterval = Duration.ofSeconds(1);
+        
+        /**
+         * Transactions up to this amount are approved locally unless another rule applies
+         */
+        private BigDecimal autoApproveAmount = new BigDecimal("1000.00");
+        
+        /**
+         * Maximum number of account windows held in memory
+         */
+        private long maximumAccounts = 1_000_000;
+    }
+    
+    /**
+     * Micro-batching settings.
+     */
+    @Data
+    public static class Batch {
+        
+        /**
+         * Maximum number of transactions scored in one legacy call
+         */
+        private int maxSize = 50;
+        
+        /**
+         * Maximum time a check waits for its batch to fill up
+         */
+        private Duration maxWait = Duration.ofMillis(50);
+        
+        /**
+         * Maximum number of batches scored concurrently
+         */
+        private int maxConcurrentBatches = 8;
+        
+        /**
+         * Maximum number of checks waiting to be batched
+         */
+        private int queueCapacity = 10000;
+    }
+    
+    /**
+     * Resilience settings. Timeout, bulkhead and circuit breaker thresholds are configured
+     * through the Resilience4j {@code legacyFraud} instance properties.
+     */
+    @Data
+    public static class Resilience {
+        
+        /**
+         * Whether legacy calls are guarded by timeout, bulkhead and circuit breaker
+         */
+        private boolean enabled = true;
+        
+        /**
+         * Decision applied when the legacy fraud system cannot be consulted
+         */
+        private FraudFallbackPolicy fallback = FraudFallbackPolicy.PENDING_REVIEW;
+    }
+}
@@ -0,0 +1,29 @@
+package com.jfincore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for Idempotency-Key handling on transaction creation.
+ * Recent keys are deduplicated in memory; older keys fall back to the unique
+ * constraint on the transactions table.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "jfincore.idempotency")
+public class IdempotencyProperties {
+    
+    /**
+     * Maximum number of keys held in memory
+     */
+    private long maximumSize = 100_000;
+    
+    /**
+     * Time a key is held in memory after its first request
+     */
+    private Duration ttl = Duration.ofHours(24);
+}
@@ -0,0 +1,39 @@
+package com.jfincore.config;
+
+import com.jfincore.entity.AccountBalance;
+import com.jfincore.entity.AccountBalanceId;
+import com.jfincore.entity.ArchivedBalance;
+import com.jfincore.entity.OutboxEvent;
+import com.jfincore.entity.Transaction;
+import com.jfincore.entity.TransactionArchive;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+
+/**
+ * Configuration of the JPA persistence unit.
+ * The managed entity classes are listed here rather than discovered by scanning the
+ * classpath for {@code @Entity} classes at every startup; new entities must be added.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Configuration
+public class JpaConfig {
+    
+    /**
+     * Lists the entity and embeddable classes managed by the persistence unit.
+     * 
+     * @return the managed types
+     */
+    @Bean
+    public PersistenceManagedTypes persistenceManagedTypes() {
+        return PersistenceManagedTypes.of(
+                Transaction.class.getName(),
+                AccountBalance.class.getName(),
+                AccountBalanceId.class.getName(),
+                ArchivedBalance.class.getName(),
+                OutboxEvent.class.getName(),
+                TransactionArchive.class.getName());
+    }
+}
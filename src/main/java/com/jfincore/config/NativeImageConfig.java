@@ -0,0 +1,96 @@
+package com.jfincore.config;
+
+import com.jfincore.dto.AccountBalanceDTO;
+import com.jfincore.dto.TransactionBatchItemResultDTO;
+import com.jfincore.dto.TransactionEventDTO;
+import com.jfincore.dto.TransactionPageDTO;
+import com.jfincore.dto.TransactionRequestDTO;
+import com.jfincore.dto.TransactionResponseDTO;
+import com.jfincore.entity.AccountBalance;
+import com.jfincore.entity.AccountBalanceId;
+import com.jfincore.entity.ArchivedBalance;
+import com.jfincore.entity.OutboxEvent;
+import com.jfincore.entity.Transaction;
+import com.jfincore.entity.TransactionArchive;
+import com.jfincore.entity.TransactionStatus;
+import com.jfincore.exception.ErrorResponse;
+import com.jfincore.logging.SamplingTurboFilter;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+
+/**
+ * Runtime hints for the GraalVM native image built with the {@code native} Maven profile.
+ * Registers what the AOT processing cannot infer from the bean definitions: the DTOs
+ * serialized by hand (NDJSON exports, events, archives), the reflective access of
+ * Hibernate and Hibernate Validator, the classes named in {@code logback-spring.xml}
+ * and the vendor-specific migration scripts. Has no effect on the JVM.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Configuration
+@ImportRuntimeHints(NativeImageConfig.JFinCoreRuntimeHints.class)
+@RegisterReflectionForBinding({
+        TransactionRequestDTO.class,
+        TransactionResponseDTO.class,
+        TransactionBatchItemResultDTO.class,
+        TransactionPageDTO.class,
+        TransactionEventDTO.class,
+        AccountBalanceDTO.class,
+        ErrorResponse.class
+})
+public class NativeImageConfig {
+    
+    /**
+     * Registers the reflection and resource hints of the application.
+     */
+    static class JFinCoreRuntimeHints implements RuntimeHintsRegistrar {
+        
+        private static final List<Class<?>> ENTITY_TYPES = List.of(
+                Transaction.class,
+                AccountBalance.class,
+                AccountBalanceId.class,
+                ArchivedBalance.class,
+                OutboxEvent.class,
+                TransactionArchive.class);
+        
+        private static final List<String> LOGBACK_TYPES = List.of(
+                "ch.qos.logback.classic.AsyncAppender",
+                "net.logstash.logback.encoder.LogstashEncoder",
+                "net.logstash.logback.stacktrace.ShortenedThrowableConverter");
+        
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Hibernate instantiates entities through their no-arg constructor and accesses fields directly
+            for (Class<?> entityType : ENTITY_TYPES) {
+                hints.reflection().registerType(entityType,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.reflection().registerType(TransactionStatus.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+            
+            // Constraints of the Lombok DTO are declared on its fields, read by Hibernate Validator
+            hints.reflection().registerType(TransactionRequestDTO.class, MemberCategory.DECLARED_FIELDS);
+            
+            // Instantiated by name and configured through setters by logback-spring.xml
+            hints.reflection().registerType(SamplingTurboFilter.class,
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+            for (String logbackType : LOGBACK_TYPES) {
+                hints.reflection().registerTypeIfPresent(classLoader, logbackType,
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            
+            // Flyway migrations under db/migration/{vendor}
+            hints.resources().registerPattern("db/migration/*/*.sql");
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.jfincore.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jfincore.outbox.FileEventSink;
+import com.jfincore.outbox.InProcessEventSink;
+import com.jfincore.outbox.TransactionEventSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * Configuration for the transactional outbox of transaction status changes.
+ * Provides the local {@link TransactionEventSink} selected by {@code jfincore.outbox.sink},
+ * unless the application provides its own sink, e.g. for a message broker.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+    
+    /**
+     * Creates a sink that publishes events as Spring application events.
+     * 
+     * @param eventPublisher the application event publisher
+     * @return the event sink
+     */
+    @Bean
+    @ConditionalOnMissingBean(TransactionEventSink.class)
+    @ConditionalOnProperty(prefix = "jfincore.outbox", name = "sink", havingValue = "in-process", matchIfMissing = true)
+    public InProcessEventSink inProcessEventSink(ApplicationEventPublisher eventPublisher) {
+        return new InProcessEventSink(eventPublisher);
+    }
+    
+    /**
+     * Creates a sink that appends events to a newline-delimited JSON file.
+     * 
+     * @param properties the outbox properties
+     * @param objectMapper the mapper serializing the events
+     * @return the event sink
+     * @throws IOException if the file cannot be opened
+     */
+    @Bean
+    @ConditionalOnMissingBean(TransactionEventSink.class)
+    @ConditionalOnProperty(prefix = "jfincore.outbox", name = "sink", havingValue = "file")
+    public FileEventSink fileEventSink(OutboxProperties properties, ObjectMapper objectMapper) throws IOException {
+        return new FileEventSink(properties.getFile(), objectMapper);
+    }
+}
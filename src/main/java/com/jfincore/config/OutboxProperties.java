@@ -0,0 +1,70 @@
+package com.jfincore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties for the transactional outbox of transaction status changes:
+ * the relay publishing events to the configured sink, and the event stream served to
+ * consumers subscribing by offset.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "jfincore.outbox")
+public class OutboxProperties {
+    
+    /**
+     * Sink receiving published events: in-process (Spring application events) or file
+     */
+    private String sink = "in-process";
+    
+    /**
+     * File the file sink appends events to, one JSON document per line
+     */
+    private Path file = Path.of("transaction-events.ndjson");
+    
+    /**
+     * Whether this instance runs the relay; exactly one instance should
+     */
+    private boolean relayEnabled = true;
+    
+    /**
+     * Delay between two relay runs once the outbox is drained
+     */
+    private Duration relayInterval = Duration.ofMillis(200);
+    
+    /**
+     * Maximum number of events published in one batch
+     */
+    private int batchSize = 500;
+    
+    /**
+     * Published events older than this are deleted from the outbox
+     */
+    private Duration retention = Duration.ofDays(7);
+    
+    /**
+     * Delay between two deletions of published events past the retention period
+     */
+    private Duration cleanupInterval = Duration.ofHours(1);
+    
+    /**
+     * Maximum number of events returned by one long-poll request or read per SSE round
+     */
+    private int maxReadSize = 500;
+    
+    /**
+     * Maximum time a long-poll request waits for new events
+     */
+    private Duration maxPollTimeout = Duration.ofSeconds(30);
+    
+    /**
+     * Time after which an SSE subscription is closed; clients reconnect with Last-Event-ID
+     */
+    private Duration sseTimeout = Duration.ofMinutes(30);
+}
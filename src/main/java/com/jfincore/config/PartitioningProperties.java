@@ -0,0 +1,38 @@
+package com.jfincore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration properties for the monthly partitions of the transactions table (MySQL)
+ * and the archival of closed partitions to local files.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "jfincore.partitioning")
+public class PartitioningProperties {
+    
+    /**
+     * Whether this instance maintains and archives partitions; exactly one instance should
+     */
+    private boolean enabled = false;
+    
+    /**
+     * Number of monthly partitions kept ready beyond the current month
+     */
+    private int monthsAhead = 3;
+    
+    /**
+     * Number of closed months kept in the database before their partition is archived
+     */
+    private int retentionMonths = 12;
+    
+    /**
+     * Directory receiving the archive files
+     */
+    private Path archiveDirectory = Path.of("archive");
+}
@@ -0,0 +1,76 @@
+package com.jfincore.config;
+
+import com.jfincore.persistence.DirectTransactionWriter;
+import com.jfincore.persistence.TransactionWriter;
+import com.jfincore.persistence.WriteBehindTransactionWriter;
+import com.jfincore.repository.OutboxEventRepository;
+import com.jfincore.repository.TransactionRepository;
+import com.jfincore.service.BalanceService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuration for persisting transaction state changes.
+ * Provides the {@link TransactionWriter} implementation selected by
+ * {@code jfincore.persistence.mode}.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(PersistenceProperties.class)
+public class PersistenceConfig {
+    
+    /**
+     * Creates the writer persisting each state change in its own transaction.
+     * 
+     * @param transactionRepository the transaction repository
+     * @param outboxEventRepository the outbox repository
+     * @param balanceService the balance service
+     * @param transactionTemplate the template for write transactions
+     * @return the direct transaction writer
+     */
+    @Bean
+    public DirectTransactionWriter directTransactionWriter(TransactionRepository transactionRepository,
+                                                           OutboxEventRepository outboxEventRepository,
+                                                           BalanceService balanceService,
+                                                           TransactionTemplate transactionTemplate) {
+        return new DirectTransactionWriter(
+                transactionRepository, outboxEventRepository, balanceService, transactionTemplate);
+    }
+    
+    /**
+     * Creates the writer grouping the state changes of concurrent requests.
+     * 
+     * @param directTransactionWriter the writer retrying failed batches one change at a time
+     * @param transactionRepository the transaction repository
+     * @param transactionTemplate the template for write transactions
+     * @param properties the persistence properties
+     * @param meterRegistry the meter registry for batch and buffer metrics
+     * @return the write-behind transaction writer
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "jfincore.persistence", name = "mode", havingValue = "write-behind")
+    public WriteBehindTransactionWriter writeBehindTransactionWriter(DirectTransactionWriter directTransactionWriter,
+                                                                     TransactionRepository transactionRepository,
+                                                                     TransactionTemplate transactionTemplate,
+                                                                     PersistenceProperties properties,
+                                                                     MeterRegistry meterRegistry) {
+        PersistenceProperties.WriteBehind writeBehind = properties.getWriteBehind();
+        return new WriteBehindTransactionWriter(
+                directTransactionWriter,
+                transactionRepository,
+                transactionTemplate,
+                writeBehind.getBufferCapacity(),
+                writeBehind.getMaxBatchSize(),
+                writeBehind.getMaxDelay(),
+                writeBehind.getEnqueueTimeout(),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,70 @@
+package com.jfincore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for persisting transaction state changes.
+ * Selects the transaction writer implementation and tunes the write-behind buffer.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "jfincore.persistence")
+public class PersistenceProperties {
+    
+    /**
+     * Transaction writer implementation to use
+     */
+    private Mode mode = Mode.DIRECT;
+    
+    /**
+     * Write-behind settings, used when mode is WRITE_BEHIND
+     */
+    private final WriteBehind writeBehind = new WriteBehind();
+    
+    /**
+     * Available transaction writer implementations.
+     */
+    public enum Mode {
+        /**
+         * One database transaction per state change
+         */
+        DIRECT,
+        
+        /**
+         * State changes of concurrent requests grouped into one database transaction
+         */
+        WRITE_BEHIND
+    }
+    
+    /**
+     * Write-behind settings.
+     */
+    @Data
+    public static class WriteBehind {
+        
+        /**
+         * Maximum number of state changes waiting to be written
+         */
+        private int bufferCapacity = 10000;
+        
+        /**
+         * Maximum number of state changes written in one database transaction
+         */
+        private int maxBatchSize = 100;
+        
+        /**
+         * Maximum time a state change waits for its batch to fill up
+         */
+        private Duration maxDelay = Duration.ofMillis(5);
+        
+        /**
+         * Maximum time a request waits for room in a full buffer before it is refused
+         */
+        private Duration enqueueTimeout = Duration.ofMillis(500);
+    }
+}
@@ -0,0 +1,34 @@
+package com.jfincore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for routing read-only transactions to a read replica.
+ * The replica connection ({@code url}, {@code username}, {@code password}) and its
+ * Hikari pool ({@code hikari.*}) are configured under the same prefix.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "jfincore.datasource.replica")
+public class ReadReplicaProperties {
+    
+    /**
+     * Whether read-only transactions are routed to the replica
+     */
+    private boolean enabled = false;
+    
+    /**
+     * Time after a write during which reads of the same transaction or account use the primary
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+    
+    /**
+     * Maximum number of recently written transactions and accounts remembered
+     */
+    private long readYourWritesMaximumSize = 100_000;
+}
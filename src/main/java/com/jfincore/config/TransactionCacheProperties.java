@@ -0,0 +1,34 @@
+package com.jfincore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the transaction lookup cache.
+ * Terminal transactions never change and can be cached for long; PENDING
+ * transactions are about to change and are cached briefly, if at all.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "jfincore.cache.transactions")
+public class TransactionCacheProperties {
+    
+    /**
+     * Maximum number of cached transactions
+     */
+    private long maximumSize = 100_000;
+    
+    /**
+     * Time to live of APPROVED and REJECTED transactions
+     */
+    private Duration terminalTtl = Duration.ofMinutes(10);
+    
+    /**
+     * Time to live of PENDING transactions; zero disables caching them
+     */
+    private Duration pendingTtl = Duration.ofSeconds(1);
+}
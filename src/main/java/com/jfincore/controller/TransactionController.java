@@ -1,24 +1,52 @@
 package com.jfincore.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.jfincore.dto.AccountBalanceDTO;
+import com.jfincore.dto.TransactionBatchItemResultDTO;
+import com.jfincore.dto.TransactionEventDTO;
+import com.jfincore.dto.TransactionPageDTO;
 import com.jfincore.dto.TransactionRequestDTO;
 import com.jfincore.dto.TransactionResponseDTO;
 import com.jfincore.entity.TransactionStatus;
+import com.jfincore.outbox.TransactionEventStream;
+import com.jfincore.service.BalanceService;
 import com.jfincore.service.TransactionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * REST Controller for transaction management operations.
  * Provides endpoints for creating, retrieving, and querying transactions
  * in the J-FinCore payment processing system.
  * 
+ * Every endpoint speaks JSON by default and CBOR or Smile on request through the
+ * {@code Accept} and {@code Content-Type} headers; exports are streamed as
+ * newline-delimited JSON or as a CBOR sequence.
+ * 
  * @author J-FinCore Team
  * @version 1.0
  */
@@ -28,28 +56,84 @@ import java.util.UUID;
 @Slf4j
 public class TransactionController {
     
+    private static final String PREFER_HEADER = "Prefer";
+    private static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+    private static final String RESPOND_ASYNC = "respond-async";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    private static final String APPLICATION_CBOR_SEQ_VALUE = "application/cbor-seq";
+    private static final MediaType APPLICATION_CBOR_SEQ = MediaType.parseMediaType(APPLICATION_CBOR_SEQ_VALUE);
+    
     private final TransactionService transactionService;
+    private final BalanceService balanceService;
+    private final TransactionEventStream transactionEventStream;
+    private final ObjectMapper objectMapper;
+    private final MappingJackson2CborHttpMessageConverter cborHttpMessageConverter;
     
     /**
      * Creates and processes a new transaction.
+     * Clients sending {@code Prefer: respond-async} receive 202 Accepted as soon as
+     * the transaction is persisted in PENDING status, with a Location header pointing
+     * to the status URL; the fraud decision is applied in the background.
+     * Retries carrying the same {@code Idempotency-Key} header return the original
+     * transaction instead of creating a new one.
      * 
      * @param requestDTO the transaction request containing account ID and amount
-     * @return ResponseEntity containing the processed transaction details
+     * @param prefer the optional Prefer request header
+     * @param idempotencyKey the optional Idempotency-Key request header
+     * @return ResponseEntity containing the processed (or accepted) transaction details
      */
     @PostMapping
     public ResponseEntity<TransactionResponseDTO> createTransaction(
-            @Valid @RequestBody TransactionRequestDTO requestDTO) {
+            @Valid @RequestBody TransactionRequestDTO requestDTO,
+            @RequestHeader(value = PREFER_HEADER, required = false) String prefer,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         
         log.info("Received transaction request for account: {}, amount: {}", 
                 requestDTO.getAccountId(), requestDTO.getAmount());
         
-        TransactionResponseDTO responseDTO = transactionService.processTransaction(requestDTO);
+        if (isAsyncPreferred(prefer)) {
+            TransactionResponseDTO acceptedDTO = transactionService.submitTransaction(requestDTO, idempotencyKey);
+            
+            URI statusUri = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .path("/{transactionId}")
+                    .buildAndExpand(acceptedDTO.getId())
+                    .toUri();
+            
+            log.info("Transaction accepted with ID: {}", acceptedDTO.getId());
+            
+            return ResponseEntity.accepted()
+                    .location(statusUri)
+                    .header(PREFERENCE_APPLIED_HEADER, RESPOND_ASYNC)
+                    .body(acceptedDTO);
+        }
+        
+        TransactionResponseDTO responseDTO = transactionService.processTransaction(requestDTO, idempotencyKey);
         
         log.info("Transaction created successfully with ID: {}", responseDTO.getId());
         
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
     }
     
+    /**
+     * Accepts a batch of transactions for asynchronous processing.
+     * Valid items are persisted in PENDING status and decided in the background;
+     * each item's outcome is reported individually, in submission order.
+     * 
+     * @param requestDTOs the transaction requests
+     * @return ResponseEntity containing one result per submitted item
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<TransactionBatchItemResultDTO>> createTransactions(
+            @RequestBody List<TransactionRequestDTO> requestDTOs) {
+        
+        log.info("Received batch transaction request with {} items", requestDTOs.size());
+        
+        List<TransactionBatchItemResultDTO> results = transactionService.submitTransactions(requestDTOs);
+        
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(results);
+    }
+    
     /**
      * Retrieves a specific transaction by its ID.
      * 
@@ -68,59 +152,300 @@ public class TransactionController {
     }
     
     /**
-     * Retrieves all transactions for a specific account.
+     * Retrieves a page of transactions for a specific account, newest first.
+     * When more transactions exist, a {@code Link} header with {@code rel="next"} points to the next page.
      * 
      * @param accountId the account identifier
-     * @return ResponseEntity containing a list of transactions for the account
+     * @param cursor the cursor of the page to retrieve, omitted for the first page
+     * @param limit the page size, capped at the maximum page size
+     * @return ResponseEntity containing a page of transactions for the account
      */
     @GetMapping("/account/{accountId}")
     public ResponseEntity<List<TransactionResponseDTO>> getTransactionsByAccount(
-            @PathVariable String accountId) {
+            @PathVariable String accountId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
         
         log.info("Retrieving transactions for account: {}", accountId);
         
-        List<TransactionResponseDTO> transactions = transactionService.getTransactionsByAccountId(accountId);
+        TransactionPageDTO page = transactionService.getTransactionsByAccountId(accountId, cursor, limit);
         
-        log.info("Found {} transactions for account: {}", transactions.size(), accountId);
+        log.info("Found {} transactions for account: {}", page.getItems().size(), accountId);
         
-        return ResponseEntity.ok(transactions);
+        return toPageResponse(page, limit);
     }
     
     /**
-     * Retrieves all transactions with a specific status.
+     * Streams all transactions for a specific account as newline-delimited JSON or CBOR sequence.
+     * 
+     * @param accountId the account identifier
+     * @param accept the Accept header, selecting the export format
+     * @return ResponseEntity streaming the transactions for the account
+     */
+    @GetMapping(value = "/account/{accountId}/export",
+                produces = {MediaType.APPLICATION_NDJSON_VALUE, APPLICATION_CBOR_SEQ_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportTransactionsByAccount(
+            @PathVariable String accountId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        
+        log.info("Exporting transactions for account: {}", accountId);
+        
+        return toExportResponse(accept,
+                consumer -> transactionService.streamTransactionsByAccountId(accountId, consumer));
+    }
+    
+    /**
+     * Retrieves the balance of an account's transactions in a given status.
+     * 
+     * @param accountId the account identifier
+     * @param status the transaction status, APPROVED by default
+     * @return ResponseEntity containing the account balance
+     */
+    @GetMapping("/account/{accountId}/balance")
+    public ResponseEntity<AccountBalanceDTO> getAccountBalance(
+            @PathVariable String accountId,
+            @RequestParam(defaultValue = "APPROVED") TransactionStatus status) {
+        
+        log.info("Retrieving {} balance for account: {}", status, accountId);
+        
+        return ResponseEntity.ok(balanceService.getBalance(accountId, status));
+    }
+    
+    /**
+     * Retrieves a page of transactions with a specific status, newest first.
+     * When more transactions exist, a {@code Link} header with {@code rel="next"} points to the next page.
      * 
      * @param status the transaction status to filter by
-     * @return ResponseEntity containing a list of transactions with the specified status
+     * @param cursor the cursor of the page to retrieve, omitted for the first page
+     * @param limit the page size, capped at the maximum page size
+     * @return ResponseEntity containing a page of transactions with the specified status
      */
     @GetMapping("/status/{status}")
     public ResponseEntity<List<TransactionResponseDTO>> getTransactionsByStatus(
-            @PathVariable TransactionStatus status) {
+            @PathVariable TransactionStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
         
         log.info("Retrieving transactions with status: {}", status);
         
-        List<TransactionResponseDTO> transactions = transactionService.getTransactionsByStatus(status);
+        TransactionPageDTO page = transactionService.getTransactionsByStatus(status, cursor, limit);
         
-        log.info("Found {} transactions with status: {}", transactions.size(), status);
+        log.info("Found {} transactions with status: {}", page.getItems().size(), status);
         
-        return ResponseEntity.ok(transactions);
+        return toPageResponse(page, limit);
     }
     
     /**
-     * Retrieves all transactions in the system.
-     * This endpoint should be used with caution in production environments
-     * due to potential performance implications.
+     * Streams all transactions with a specific status as newline-delimited JSON or CBOR sequence.
      * 
-     * @return ResponseEntity containing a list of all transactions
+     * @param status the transaction status to filter by
+     * @param accept the Accept header, selecting the export format
+     * @return ResponseEntity streaming the transactions with the specified status
+     */
+    @GetMapping(value = "/status/{status}/export",
+                produces = {MediaType.APPLICATION_NDJSON_VALUE, APPLICATION_CBOR_SEQ_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportTransactionsByStatus(
+            @PathVariable TransactionStatus status,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        
+        log.info("Exporting transactions with status: {}", status);
+        
+        return toExportResponse(accept,
+                consumer -> transactionService.streamTransactionsByStatus(status, consumer));
+    }
+    
+    /**
+     * Retrieves a page of all transactions in the system, newest first.
+     * When more transactions exist, a {@code Link} header with {@code rel="next"} points to the next page.
+     * 
+     * @param cursor the cursor of the page to retrieve, omitted for the first page
+     * @param limit the page size, capped at the maximum page size
+     * @return ResponseEntity containing a page of transactions
      */
     @GetMapping
-    public ResponseEntity<List<TransactionResponseDTO>> getAllTransactions() {
+    public ResponseEntity<List<TransactionResponseDTO>> getAllTransactions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
         
         log.info("Retrieving all transactions");
         
-        List<TransactionResponseDTO> transactions = transactionService.getAllTransactions();
+        TransactionPageDTO page = transactionService.getAllTransactions(cursor, limit);
+        
+        log.info("Found {} transactions", page.getItems().size());
+        
+        return toPageResponse(page, limit);
+    }
+    
+    /**
+     * Streams all transactions in the system as newline-delimited JSON or CBOR sequence, or
+     * only those created within a time range, including archived ones, when a range is given.
+     * Memory use is constant regardless of the number of transactions.
+     * 
+     * @param from the inclusive start of the range (ISO-8601), omitted to export everything
+     * @param to the exclusive end of the range (ISO-8601), omitted to export everything
+     * @param accept the Accept header, selecting the export format
+     * @return ResponseEntity streaming the transactions
+     * @throws com.jfincore.exception.CustomBusinessException if only one bound is given or the range is empty
+     */
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, APPLICATION_CBOR_SEQ_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportAllTransactions(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        
+        if (from == null && to == null) {
+            log.info("Exporting all transactions");
+            
+            return toExportResponse(accept, transactionService::streamAllTransactions);
+        }
         
-        log.info("Found {} total transactions", transactions.size());
+        log.info("Exporting transactions from {} to {}", from, to);
         
-        return ResponseEntity.ok(transactions);
+        // Checked before the response is committed, so an invalid range still gets a 400
+        transactionService.validateTimeRange(from, to);
+        
+        return toExportResponse(accept,
+                consumer -> transactionService.streamTransactionsBetween(from, to, consumer));
+    }
+    
+    /**
+     * Long-polls the stream of transaction status changes. Returns the events following
+     * the given offset as soon as there are any, or an empty list once the timeout elapses.
+     * Consumers pass the offset of the last event they processed with the next request.
+     * 
+     * @param after the offset of the last event already processed, 0 to start from the oldest retained event
+     * @param timeout the maximum time to wait for events, in seconds
+     * @return the events following the offset, in stream order
+     */
+    @GetMapping("/events")
+    public DeferredResult<List<TransactionEventDTO>> pollTransactionEvents(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "30") long timeout) {
+        
+        log.debug("Polling transaction events after offset: {}", after);
+        
+        return transactionEventStream.poll(after, Duration.ofSeconds(timeout));
+    }
+    
+    /**
+     * Subscribes to the stream of transaction status changes as Server-Sent Events.
+     * Each event carries its offset as event id, so reconnecting clients resume
+     * through the {@code Last-Event-ID} header, which takes precedence over {@code after}.
+     * 
+     * @param after the offset of the last event already processed, 0 to start from the oldest retained event
+     * @param lastEventId the optional Last-Event-ID request header
+     * @return the event emitter
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTransactionEvents(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) Long lastEventId) {
+        
+        long offset = lastEventId != null ? lastEventId : after;
+        
+        log.info("Subscribing to transaction events after offset: {}", offset);
+        
+        return transactionEventStream.subscribe(offset);
+    }
+    
+    /**
+     * Builds the response for a page of transactions, adding a {@code Link} header
+     * to the next page when there is one.
+     * 
+     * @param page the page of transactions
+     * @param limit the requested page size, repeated in the next page link
+     * @return ResponseEntity containing the transactions of the page
+     */
+    private ResponseEntity<List<TransactionResponseDTO>> toPageResponse(TransactionPageDTO page, Integer limit) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        
+        if (page.getNextCursor() != null) {
+            UriComponentsBuilder next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.getNextCursor());
+            if (limit != null) {
+                next.replaceQueryParam("limit", limit);
+            }
+            response.header(HttpHeaders.LINK, "<" + next.toUriString() + ">; rel=\"next\"");
+        }
+        
+        return response.body(page.getItems());
+    }
+    
+    /**
+     * Builds a streaming export response in the format the client accepts: a CBOR sequence
+     * (RFC 8742) when it accepts {@code application/cbor-seq}, newline-delimited JSON otherwise.
+     * The producer runs while the response is written, so transactions are serialized one at a time.
+     * 
+     * @param accept the Accept header, possibly null
+     * @param producer feeds each transaction to the given consumer
+     * @return ResponseEntity streaming the produced transactions
+     */
+    private ResponseEntity<StreamingResponseBody> toExportResponse(
+            String accept, Consumer<Consumer<TransactionResponseDTO>> producer) {
+        
+        if (accept != null && MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(APPLICATION_CBOR_SEQ::equalsTypeAndSubtype)) {
+            return toCborSequenceResponse(producer);
+        }
+        
+        StreamingResponseBody body = outputStream -> producer.accept(transaction -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(transaction));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+    
+    /**
+     * Builds a streaming CBOR sequence response: the CBOR items of the transactions, back to back.
+     * 
+     * @param producer feeds each transaction to the given consumer
+     * @return ResponseEntity streaming the produced transactions
+     */
+    private ResponseEntity<StreamingResponseBody> toCborSequenceResponse(
+            Consumer<Consumer<TransactionResponseDTO>> producer) {
+        
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter sequenceWriter = cborHttpMessageConverter.getObjectMapper()
+                    .writerFor(TransactionResponseDTO.class)
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .writeValues(outputStream)) {
+                producer.accept(transaction -> {
+                    try {
+                        sequenceWriter.write(transaction);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_CBOR_SEQ)
+                .body(body);
+    }
+    
+    /**
+     * Checks whether the client asked for asynchronous processing (RFC 7240).
+     * 
+     * @param prefer the Prefer header value, possibly null
+     * @return true if the respond-async preference is present
+     */
+    private boolean isAsyncPreferred(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        for (String preference : prefer.split(",")) {
+            if (RESPOND_ASYNC.equalsIgnoreCase(preference.trim())) {
+                return true;
+            }
+        }
+        return false;
     }
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.jfincore.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jfincore.config.ReadReplicaProperties;
+import com.jfincore.entity.Transaction;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Read-your-writes guarantee on top of the read replica.
+ * 
+ * Transactions and accounts written by this instance are remembered for the configured
+ * window, which should exceed the usual replication lag; reads keyed by one of them during
+ * the window are served by the primary. Without a replica, or with an empty window, reads
+ * run unchanged.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Component
+public class ReadConsistency {
+    
+    private final Cache<Object, Boolean> recentWrites;
+    
+    /**
+     * Creates the read consistency policy.
+     * 
+     * @param properties the read replica properties
+     */
+    public ReadConsistency(ReadReplicaProperties properties) {
+        this.recentWrites = properties.isEnabled() && !properties.getReadYourWritesWindow().isZero()
+                ? Caffeine.newBuilder()
+                        .maximumSize(properties.getReadYourWritesMaximumSize())
+                        .expireAfterWrite(properties.getReadYourWritesWindow())
+                        .build()
+                : null;
+    }
+    
+    /**
+     * Records a committed write of a transaction.
+     * 
+     * @param transaction the written transaction
+     */
+    public void recordWrite(Transaction transaction) {
+        if (recentWrites != null) {
+            recentWrites.put(transaction.getId(), Boolean.TRUE);
+            recentWrites.put(transaction.getAccountId(), Boolean.TRUE);
+        }
+    }
+    
+    /**
+     * Runs a read on the primary if the key was written within the window.
+     * 
+     * @param key the transaction id or account id the read depends on
+     * @param read the read to run
+     * @param <T> the result type
+     * @return the result of the read
+     */
+    public <T> T readYourWrites(Object key, Supplier<T> read) {
+        if (recentWrites != null && recentWrites.getIfPresent(key) != null) {
+            return ReplicaRoutingDataSource.onPrimary(read);
+        }
+        return read.get();
+    }
+    
+    /**
+     * Runs a read on the primary whatever the window, for reads deciding about a write.
+     * 
+     * @param read the read to run
+     * @param <T> the result type
+     * @return the result of the read
+     */
+    public <T> T onPrimary(Supplier<T> read) {
+        return ReplicaRoutingDataSource.onPrimary(read);
+    }
+}
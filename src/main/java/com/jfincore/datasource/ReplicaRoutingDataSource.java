@@ -0,0 +1,93 @@
+package com.jfincore.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * DataSource sending connections of read-only transactions to the replica pool and all
+ * others to the primary pool.
+ * 
+ * The route is chosen when the physical connection is acquired, so this DataSource must be
+ * wrapped in a {@code LazyConnectionDataSourceProxy}: the transaction manager asks for a
+ * connection before it marks the transaction read-only, but the proxy only fetches one at
+ * the first statement. Code paths that must see their own writes run {@link #onPrimary}.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+    
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+    
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    
+    /**
+     * Creates a new routing DataSource.
+     * 
+     * @param primary the primary pool, receiving writes
+     * @param replica the replica pool, receiving read-only transactions
+     * @param meterRegistry the meter registry for routing metrics
+     */
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, MeterRegistry meterRegistry) {
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.primaryCounter = routedCounter(meterRegistry, PRIMARY);
+        this.replicaCounter = routedCounter(meterRegistry, REPLICA);
+    }
+    
+    /**
+     * Runs an action with every connection it acquires on the calling thread taken from
+     * the primary pool, even inside read-only transactions.
+     * 
+     * @param action the action to run
+     * @param <T> the result type
+     * @return the result of the action
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            } else {
+                FORCE_PRIMARY.set(previous);
+            }
+        }
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (FORCE_PRIMARY.get() == null && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            replicaCounter.increment();
+            return REPLICA;
+        }
+        primaryCounter.increment();
+        return PRIMARY;
+    }
+    
+    /**
+     * Creates the counter of connections routed to one pool.
+     * 
+     * @param meterRegistry the meter registry
+     * @param pool the pool name
+     * @return the counter
+     */
+    private static Counter routedCounter(MeterRegistry meterRegistry, String pool) {
+        return Counter.builder("jfincore.datasource.routed")
+                .description("Physical connections acquired through the read/write routing DataSource")
+                .tag("pool", pool)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,40 @@
+package com.jfincore.dto;
+
+import com.jfincore.entity.TransactionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for the balance of an account's transactions in a given status.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBalanceDTO {
+    
+    /**
+     * Account identifier
+     */
+    private String accountId;
+    
+    /**
+     * Transaction status the balance refers to
+     */
+    private TransactionStatus status;
+    
+    /**
+     * Sum of the amounts of the account's transactions in this status
+     */
+    private BigDecimal totalAmount;
+    
+    /**
+     * Number of the account's transactions in this status
+     */
+    private long transactionCount;
+}
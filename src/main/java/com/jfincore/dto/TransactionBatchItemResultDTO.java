@@ -0,0 +1,61 @@
+package com.jfincore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the outcome of a single item in a batch submission.
+ * Either the accepted transaction or the error code and message are set.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionBatchItemResultDTO {
+    
+    /**
+     * Position of the item in the submitted batch
+     */
+    private int index;
+    
+    /**
+     * The accepted transaction, or null if the item failed
+     */
+    private TransactionResponseDTO transaction;
+    
+    /**
+     * Application-specific error code, or null if the item was accepted
+     */
+    private String errorCode;
+    
+    /**
+     * Detailed error message, or null if the item was accepted
+     */
+    private String message;
+    
+    /**
+     * Creates the result for an accepted item.
+     * 
+     * @param index the position of the item in the batch
+     * @param transaction the accepted transaction
+     * @return the item result
+     */
+    public static TransactionBatchItemResultDTO accepted(int index, TransactionResponseDTO transaction) {
+        return new TransactionBatchItemResultDTO(index, transaction, null, null);
+    }
+    
+    /**
+     * Creates the result for a failed item.
+     * 
+     * @param index the position of the item in the batch
+     * @param errorCode the application-specific error code
+     * @param message the error message
+     * @return the item result
+     */
+    public static TransactionBatchItemResultDTO failed(int index, String errorCode, String message) {
+        return new TransactionBatchItemResultDTO(index, null, errorCode, message);
+    }
+}
@@ -0,0 +1,53 @@
+package com.jfincore.dto;
+
+import com.jfincore.entity.TransactionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for transaction status change events.
+ * Consumers resume a subscription from the offset of the last event they processed.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionEventDTO {
+    
+    /**
+     * Position of the event in the stream, increasing by one from event to event
+     */
+    private long offset;
+    
+    /**
+     * Identifier of the transaction whose status changed
+     */
+    private UUID transactionId;
+    
+    /**
+     * Account identifier associated with the transaction
+     */
+    private String accountId;
+    
+    /**
+     * Transaction amount
+     */
+    private BigDecimal amount;
+    
+    /**
+     * Status the transaction moved to
+     */
+    private TransactionStatus status;
+    
+    /**
+     * Time of the status change
+     */
+    private LocalDateTime occurredAt;
+}
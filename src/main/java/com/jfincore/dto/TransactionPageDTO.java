@@ -0,0 +1,31 @@
+package com.jfincore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a keyset-paginated slice of transactions.
+ * Transactions are ordered newest first; the next cursor resumes the listing
+ * right after the last transaction of this page.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionPageDTO {
+    
+    /**
+     * Transactions in this page
+     */
+    private List<TransactionResponseDTO> items;
+    
+    /**
+     * Opaque cursor for the next page, or null if this is the last page
+     */
+    private String nextCursor;
+}
@@ -3,6 +3,7 @@ package com.jfincore.dto;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -24,9 +25,10 @@ public class TransactionRequestDTO {
     
     /**
      * Account identifier for the transaction.
-     * Must not be null or blank.
+     * Must not be null or blank, and fit the 50 characters of the account column.
      */
     @NotBlank(message = "Account ID is required and cannot be blank")
+    @Size(max = 50, message = "Account ID must not exceed 50 characters")
     private String accountId;
     
     /**
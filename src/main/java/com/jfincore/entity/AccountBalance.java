@@ -0,0 +1,45 @@
+package com.jfincore.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * JPA Entity holding the materialized total of an account's transactions in a final status.
+ * Incremented in the same database transaction that sets a transaction's final status,
+ * so reading a balance never requires aggregating the account history.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "account_balances")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBalance {
+    
+    /**
+     * Account and status this balance aggregates
+     */
+    @EmbeddedId
+    private AccountBalanceId id;
+    
+    /**
+     * Sum of the amounts of the aggregated transactions
+     */
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+    
+    /**
+     * Number of aggregated transactions
+     */
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+}
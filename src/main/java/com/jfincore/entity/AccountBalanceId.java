@@ -0,0 +1,37 @@
+package com.jfincore.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Composite key of an {@link AccountBalance}: one aggregate per account and status.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBalanceId implements Serializable {
+    
+    /**
+     * Account identifier
+     */
+    @Column(name = "account_id", nullable = false, length = 50)
+    private String accountId;
+    
+    /**
+     * Final transaction status aggregated by this balance
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private TransactionStatus status;
+}
@@ -0,0 +1,45 @@
+package com.jfincore.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * JPA Entity holding the total of an account's archived transactions in a final status.
+ * The materialized {@link AccountBalance} still includes archived transactions, so the
+ * balance reconciliation adds these totals to the ones of the transactions table.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "archived_balances")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedBalance {
+    
+    /**
+     * Account and status these totals aggregate
+     */
+    @EmbeddedId
+    private AccountBalanceId id;
+    
+    /**
+     * Sum of the amounts of the archived transactions
+     */
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+    
+    /**
+     * Number of archived transactions
+     */
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+}
@@ -0,0 +1,94 @@
+package com.jfincore.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity representing a transaction status change waiting in, or published from,
+ * the transactional outbox.
+ * 
+ * Events are inserted in the same database transaction as the status change they record,
+ * so an event exists if and only if the change was committed. The relay assigns each event
+ * its stream offset when publishing it; offsets are gapless and follow publication order,
+ * unlike the insertion ids, which concurrent transactions may commit out of order.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_occurred_at", columnList = "occurred_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_outbox_events_stream_offset", columnNames = "stream_offset")
+})
+@Data
+@NoArgsConstructor
+public class OutboxEvent {
+    
+    /**
+     * Insertion order of the event
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+    
+    /**
+     * Position of the event in the published stream, null until the event is published
+     */
+    @Column(name = "stream_offset")
+    private Long streamOffset;
+    
+    /**
+     * Identifier of the transaction whose status changed, stored as BINARY(16)
+     */
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "transaction_id", nullable = false, updatable = false, length = 16)
+    private UUID transactionId;
+    
+    /**
+     * Account identifier associated with the transaction
+     */
+    @Column(name = "account_id", nullable = false, updatable = false, length = 50)
+    private String accountId;
+    
+    /**
+     * Transaction amount
+     */
+    @Column(name = "amount", nullable = false, updatable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+    
+    /**
+     * Status the transaction moved to
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, updatable = false, length = 20)
+    private TransactionStatus status;
+    
+    /**
+     * Time of the status change
+     */
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+    
+    /**
+     * Constructor for recording the current status of a transaction.
+     * 
+     * @param transaction the transaction whose status changed
+     * @param occurredAt the time of the status change
+     */
+    public OutboxEvent(Transaction transaction, LocalDateTime occurredAt) {
+        this.transactionId = transaction.getId();
+        this.accountId = transaction.getAccountId();
+        this.amount = transaction.getAmount();
+        this.status = transaction.getStatus();
+        this.occurredAt = occurredAt;
+    }
+}
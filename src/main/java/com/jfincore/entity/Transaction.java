@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -14,22 +16,36 @@ import java.util.UUID;
  * JPA Entity representing a financial transaction in the J-FinCore system.
  * This entity encapsulates all the necessary information for processing payments.
  * 
+ * Indexes back the repository finders and keyset pagination. On InnoDB every secondary
+ * index also carries the primary key, so the (column, timestamp) indexes serve the
+ * (timestamp, id) ordering without a filesort, and the (account_id, status, amount)
+ * index covers the per-account balance aggregate. The unique idempotency key lets
+ * retried requests find the transaction they already created.
+ * 
  * @author J-FinCore Team
  * @version 1.0
  */
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_account_timestamp", columnList = "account_id, timestamp"),
+        @Index(name = "idx_transactions_status_timestamp", columnList = "status, timestamp"),
+        @Index(name = "idx_transactions_account_status_amount", columnList = "account_id, status, amount"),
+        @Index(name = "idx_transactions_timestamp", columnList = "timestamp")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_transactions_idempotency_key", columnNames = "idempotency_key")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Transaction {
     
     /**
-     * Unique identifier for the transaction using UUID
+     * Unique identifier for the transaction using UUID, stored as BINARY(16)
      */
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
-    @Column(name = "id", updatable = false, nullable = false)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", updatable = false, nullable = false, length = 16)
     private UUID id;
     
     /**
@@ -58,6 +74,12 @@ public class Transaction {
     @Column(name = "timestamp", nullable = false, updatable = false)
     private LocalDateTime timestamp;
     
+    /**
+     * Client-supplied key identifying retries of the same request, if any
+     */
+    @Column(name = "idempotency_key", updatable = false, length = 100)
+    private String idempotencyKey;
+    
     /**
      * Constructor for creating a new transaction with basic information
      * 
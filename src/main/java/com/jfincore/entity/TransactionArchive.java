@@ -0,0 +1,64 @@
+package com.jfincore.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity recording a transactions partition archived to a file.
+ * The record is written before the partition is dropped, so a partition that has a
+ * record but still exists only remains to be dropped.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "transaction_archives")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionArchive {
+    
+    /**
+     * Name of the archived partition
+     */
+    @Id
+    @Column(name = "partition_name", length = 64)
+    private String partitionName;
+    
+    /**
+     * Inclusive lower bound of the archived timestamps, null for the partition holding all older history
+     */
+    @Column(name = "range_start")
+    private LocalDateTime rangeStart;
+    
+    /**
+     * Exclusive upper bound of the archived timestamps
+     */
+    @Column(name = "range_end", nullable = false)
+    private LocalDateTime rangeEnd;
+    
+    /**
+     * Gzip-compressed NDJSON file holding the archived transactions, newest first
+     */
+    @Column(name = "file_path", nullable = false, length = 512)
+    private String filePath;
+    
+    /**
+     * Number of archived transactions
+     */
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+    
+    /**
+     * Time the partition was archived
+     */
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -5,6 +5,11 @@ package com.jfincore.exception;
  * This exception is thrown when business rules are violated or
  * when specific business logic errors occur during transaction processing.
  * 
+ * Business errors are expected outcomes, reported to the client through their error code
+ * and message, so exceptions without a cause do not capture a stack trace: filling it in
+ * would dominate the cost of rejecting a request. Exceptions wrapping a cause keep their
+ * stack trace, since they report an unexpected failure that may need investigating.
+ * 
  * @author J-FinCore Team
  * @version 1.0
  */
@@ -14,22 +19,24 @@ public class CustomBusinessException extends RuntimeException {
     
     /**
      * Constructs a new CustomBusinessException with the specified detail message.
+     * The exception has no stack trace.
      * 
      * @param message the detail message
      */
     public CustomBusinessException(String message) {
-        super(message);
+        super(message, null, false, false);
         this.errorCode = "BUSINESS_ERROR";
     }
     
     /**
      * Constructs a new CustomBusinessException with the specified detail message and error code.
+     * The exception has no stack trace.
      * 
      * @param message the detail message
      * @param errorCode the specific error code
      */
     public CustomBusinessException(String message, String errorCode) {
-        super(message);
+        super(message, null, false, false);
         this.errorCode = errorCode;
     }
     
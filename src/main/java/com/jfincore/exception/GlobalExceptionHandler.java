@@ -1,7 +1,11 @@
 package com.jfincore.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -11,6 +15,7 @@ import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -18,6 +23,13 @@ import java.util.Map;
  * Handles all exceptions thrown by controllers and provides standardized
  * error responses following RFC 7807 Problem Details specification.
  * 
+ * Business rule violations and invalid input are expected outcomes, so they are
+ * logged as a single WARN line without a stack trace; only unexpected exceptions
+ * are logged with their stack trace.
+ * 
+ * Clients of the streaming exports accept only a sequence format, in which no error
+ * response can be written; they receive errors as JSON.
+ * 
  * @author J-FinCore Team
  * @version 1.0
  */
@@ -25,6 +37,10 @@ import java.util.Map;
 @Slf4j
 public class GlobalExceptionHandler {
     
+    private static final List<MediaType> SEQUENCE_TYPES = List.of(
+            MediaType.APPLICATION_NDJSON,
+            MediaType.parseMediaType("application/cbor-seq"));
+    
     /**
      * Handles CustomBusinessException instances.
      * 
@@ -36,7 +52,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleCustomBusinessException(
             CustomBusinessException ex, WebRequest request) {
         
-        log.error("Business exception occurred: {} - {}", ex.getErrorCode(), ex.getMessage(), ex);
+        log.warn("Business exception occurred: {} - {}", ex.getErrorCode(), ex.getMessage());
         
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
@@ -47,7 +63,7 @@ public class GlobalExceptionHandler {
                 .path(getPath(request))
                 .build();
         
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        return toResponse(HttpStatus.BAD_REQUEST, errorResponse, request);
     }
     
     /**
@@ -61,8 +77,6 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleValidationException(
             MethodArgumentNotValidException ex, WebRequest request) {
         
-        log.error("Validation exception occurred", ex);
-        
         Map<String, String> validationErrors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach(error -> {
             String fieldName = ((FieldError) error).getField();
@@ -70,6 +84,8 @@ public class GlobalExceptionHandler {
             validationErrors.put(fieldName, errorMessage);
         });
         
+        log.warn("Validation exception occurred: {}", validationErrors);
+        
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
                 .status(HttpStatus.BAD_REQUEST.value())
@@ -80,7 +96,7 @@ public class GlobalExceptionHandler {
                 .validationErrors(validationErrors)
                 .build();
         
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        return toResponse(HttpStatus.BAD_REQUEST, errorResponse, request);
     }
     
     /**
@@ -94,7 +110,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
             IllegalArgumentException ex, WebRequest request) {
         
-        log.error("Illegal argument exception occurred", ex);
+        log.warn("Illegal argument exception occurred: {}", ex.getMessage());
         
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
@@ -105,7 +121,32 @@ public class GlobalExceptionHandler {
                 .path(getPath(request))
                 .build();
         
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        return toResponse(HttpStatus.BAD_REQUEST, errorResponse, request);
+    }
+    
+    /**
+     * Handles rejected submissions when the asynchronous processing queue is full.
+     * 
+     * @param ex the task rejected exception
+     * @param request the web request
+     * @return ResponseEntity containing error response
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleTaskRejectedException(
+            TaskRejectedException ex, WebRequest request) {
+        
+        log.warn("Transaction processing queue is full: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message("Transaction processing capacity exhausted. Please retry later.")
+                .errorCode("PROCESSING_QUEUE_FULL")
+                .path(getPath(request))
+                .build();
+        
+        return toResponse(HttpStatus.SERVICE_UNAVAILABLE, errorResponse, request);
     }
     
     /**
@@ -130,7 +171,43 @@ public class GlobalExceptionHandler {
                 .path(getPath(request))
                 .build();
         
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        return toResponse(HttpStatus.INTERNAL_SERVER_ERROR, errorResponse, request);
+    }
+    
+    /**
+     * Builds the error response, as JSON if the client accepts only sequence formats.
+     * 
+     * @param status the HTTP status
+     * @param errorResponse the error response body
+     * @param request the web request
+     * @return ResponseEntity containing the error response
+     */
+    private ResponseEntity<ErrorResponse> toResponse(HttpStatus status, ErrorResponse errorResponse, 
+                                                     WebRequest request) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+        if (acceptsOnlySequenceTypes(request.getHeader(HttpHeaders.ACCEPT))) {
+            response.contentType(MediaType.APPLICATION_JSON);
+        }
+        return response.body(errorResponse);
+    }
+    
+    /**
+     * Checks whether an Accept header names sequence formats only.
+     * 
+     * @param accept the Accept header, possibly null
+     * @return true if every accepted type is a sequence format
+     */
+    private boolean acceptsOnlySequenceTypes(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .allMatch(type -> !type.isWildcardType() && !type.isWildcardSubtype()
+                            && SEQUENCE_TYPES.stream().anyMatch(type::isCompatibleWith));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
     }
     
     /**
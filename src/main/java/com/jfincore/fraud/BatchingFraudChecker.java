@@ -0,0 +1,228 @@
+package com.jfincore.fraud;
+
+import com.jfincore.entity.Transaction;
+import com.jfincore.exception.CustomBusinessException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fraud checker that groups concurrent checks into micro-batches.
+ * Pending checks are collected until the batch reaches its maximum size or the
+ * oldest check has waited for the maximum wait time, and the whole batch is then
+ * scored with a single call to the legacy fraud system. Callers block until the
+ * verdict for their transaction is available, but no longer than the check timeout.
+ * 
+ * When all scoring threads are busy the dispatcher scores the batch itself, which
+ * stops draining the queue; once the queue is full new checks are refused. Checks
+ * still queued when the checker is closed fail instead of waiting for a verdict.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Slf4j
+public class BatchingFraudChecker implements FraudChecker, AutoCloseable {
+    
+    private static final long DISPATCH_POLL_MILLIS = 100;
+    
+    private final LegacyFraudClient legacyFraudClient;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final long checkTimeoutNanos;
+    private final BlockingQueue<PendingCheck> queue;
+    private final ThreadPoolExecutor scoringExecutor;
+    private final Thread dispatcher;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer batchLatencyTimer;
+    private volatile boolean running = true;
+    
+    /**
+     * Creates a new batching fraud checker and starts its dispatcher thread.
+     * 
+     * @param legacyFraudClient the legacy fraud system client
+     * @param maxBatchSize the maximum number of transactions scored in one call
+     * @param maxWait the maximum time a check waits for its batch to fill up
+     * @param checkTimeout the maximum time a caller waits for its verdict
+     * @param maxConcurrentBatches the maximum number of batches scored concurrently
+     * @param queueCapacity the maximum number of checks waiting to be batched
+     * @param meterRegistry the registry for batch size and latency metrics
+     */
+    public BatchingFraudChecker(LegacyFraudClient legacyFraudClient, int maxBatchSize, Duration maxWait,
+                                Duration checkTimeout, int maxConcurrentBatches, int queueCapacity,
+                                MeterRegistry meterRegistry) {
+        this.legacyFraudClient = legacyFraudClient;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.checkTimeoutNanos = checkTimeout.toNanos();
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        
+        AtomicInteger threadCount = new AtomicInteger();
+        this.scoringExecutor = new ThreadPoolExecutor(
+                maxConcurrentBatches, maxConcurrentBatches, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(),
+                runnable -> new Thread(runnable, "fraud-batch-" + threadCount.incrementAndGet()),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        
+        this.batchSizeSummary = DistributionSummary.builder("jfincore.fraud.batch.size")
+                .description("Number of transactions scored per legacy fraud call")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchLatencyTimer = Timer.builder("jfincore.fraud.batch.latency")
+                .description("Latency of legacy fraud calls per batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        
+        this.dispatcher = new Thread(this::dispatchLoop, "fraud-batch-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FraudVerdict check(Transaction transaction) {
+        CompletableFuture<FraudVerdict> result = new CompletableFuture<>();
+        PendingCheck pending = new PendingCheck(transaction, result);
+        
+        if (!running || !queue.offer(pending)) {
+            throw new CustomBusinessException(
+                    "Fraud check capacity exhausted",
+                    "FRAUD_CHECK_UNAVAILABLE");
+        }
+        // Closed concurrently, possibly after the dispatcher and close() last drained the queue
+        if (!running && queue.remove(pending)) {
+            throw closedException();
+        }
+        
+        try {
+            return result.get(checkTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Not scored any more if still queued; a batch already scoring completes it in vain
+            queue.remove(pending);
+            throw new CustomBusinessException(
+                    "Fraud check timed out",
+                    "FRAUD_CHECK_TIMEOUT", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomBusinessException(
+                    "Fraud check process was interrupted",
+                    "FRAUD_CHECK_INTERRUPTED", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomBusinessException businessException) {
+                throw businessException;
+            }
+            throw new CustomBusinessException(
+                    "Fraud check failed",
+                    "FRAUD_CHECK_FAILED", e.getCause());
+        }
+    }
+    
+    /**
+     * Stops accepting new checks, scores the checks already queued and
+     * waits for in-flight batches to complete. Checks queued after the
+     * dispatcher has stopped are failed.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            dispatcher.join();
+            scoringExecutor.shutdown();
+            scoringExecutor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            List<PendingCheck> unscored = new ArrayList<>();
+            queue.drainTo(unscored);
+            unscored.forEach(pending -> pending.result().completeExceptionally(closedException()));
+        }
+    }
+    
+    /**
+     * Collects pending checks into batches and hands them over for scoring
+     * until the checker is closed and the queue is drained.
+     */
+    private void dispatchLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCheck first = queue.poll(DISPATCH_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                
+                List<PendingCheck> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + maxWaitNanos;
+                
+                while (batch.size() < maxBatchSize) {
+                    PendingCheck next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                }
+                
+                scoringExecutor.execute(() -> score(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Scores a batch with a single legacy call and completes every pending check.
+     * 
+     * @param batch the pending checks to score
+     */
+    private void score(List<PendingCheck> batch) {
+        batchSizeSummary.record(batch.size());
+        
+        try {
+            List<Transaction> transactions = batch.stream()
+                    .map(PendingCheck::transaction)
+                    .toList();
+            List<FraudVerdict> verdicts = batchLatencyTimer.record(() -> legacyFraudClient.score(transactions));
+            
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(verdicts.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.error("Legacy fraud call failed for batch of {} transaction(s)", batch.size(), e);
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+        }
+    }
+    
+    /**
+     * Creates the failure of a check that is not scored because the checker is closed.
+     * 
+     * @return the exception to fail the check with
+     */
+    private static CustomBusinessException closedException() {
+        return new CustomBusinessException(
+                "Fraud checker is closed",
+                "FRAUD_CHECK_UNAVAILABLE");
+    }
+    
+    /**
+     * A transaction waiting to be scored together with the future that receives its verdict.
+     */
+    private record PendingCheck(Transaction transaction, CompletableFuture<FraudVerdict> result) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.jfincore.fraud;
+
+import com.jfincore.entity.Transaction;
+
+import java.util.List;
+
+/**
+ * Fraud checker that calls the legacy fraud system once per transaction.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+public class DirectFraudChecker implements FraudChecker {
+    
+    private final LegacyFraudClient legacyFraudClient;
+    
+    /**
+     * Creates a new direct fraud checker.
+     * 
+     * @param legacyFraudClient the legacy fraud system client
+     */
+    public DirectFraudChecker(LegacyFraudClient legacyFraudClient) {
+        this.legacyFraudClient = legacyFraudClient;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FraudVerdict check(Transaction transaction) {
+        return legacyFraudClient.score(List.of(transaction)).get(0);
+    }
+}
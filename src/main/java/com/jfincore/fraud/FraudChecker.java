@@ -0,0 +1,23 @@
+package com.jfincore.fraud;
+
+import com.jfincore.entity.Transaction;
+
+/**
+ * Service provider interface for fraud detection.
+ * Implementations decide whether a persisted PENDING transaction can be approved.
+ * Calls may block while the underlying fraud system is consulted.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+public interface FraudChecker {
+    
+    /**
+     * Checks a transaction for fraud.
+     * 
+     * @param transaction the transaction to check
+     * @return the fraud verdict for the transaction
+     * @throws com.jfincore.exception.CustomBusinessException if the fraud check cannot be completed
+     */
+    FraudVerdict check(Transaction transaction);
+}
@@ -0,0 +1,26 @@
+package com.jfincore.fraud;
+
+/**
+ * Enum representing the decision applied when the legacy fraud system
+ * cannot be consulted (circuit open, bulkhead full, timeout or failure).
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+public enum FraudFallbackPolicy {
+    /**
+     * Decide locally: approve amounts up to the suspicious threshold, reject the rest
+     */
+    LOCAL_RULES,
+    
+    /**
+     * Leave the transaction PENDING; the pending transaction recovery decides it again once
+     * the circuit breaker has closed
+     */
+    PENDING_REVIEW,
+    
+    /**
+     * Reject the transaction immediately
+     */
+    REJECT
+}
@@ -0,0 +1,24 @@
+package com.jfincore.fraud;
+
+/**
+ * Enum representing the outcome of a fraud check.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+public enum FraudVerdict {
+    /**
+     * Transaction passed the fraud check and can be approved
+     */
+    APPROVE,
+    
+    /**
+     * Transaction was flagged as fraudulent and must be rejected
+     */
+    REJECT,
+    
+    /**
+     * No decision could be made; the transaction stays PENDING for later review
+     */
+    REVIEW
+}
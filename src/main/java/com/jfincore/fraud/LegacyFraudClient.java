@@ -0,0 +1,25 @@
+package com.jfincore.fraud;
+
+import com.jfincore.entity.Transaction;
+
+import java.util.List;
+
+/**
+ * Client for the legacy fraud detection system.
+ * A single call scores a whole batch of transactions, so its latency is paid
+ * once per batch rather than once per transaction.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+public interface LegacyFraudClient {
+    
+    /**
+     * Scores a batch of transactions in a single call to the legacy system.
+     * 
+     * @param transactions the transactions to score
+     * @return the verdicts, in the same order as the given transactions
+     * @throws com.jfincore.exception.CustomBusinessException if the call fails
+     */
+    List<FraudVerdict> score(List<Transaction> transactions);
+}
@@ -0,0 +1,175 @@
+package com.jfincore.fraud;
+
+import com.jfincore.entity.Transaction;
+import com.jfincore.exception.CustomBusinessException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Fraud checker decorator that protects callers from a slow or failing legacy fraud system.
+ * Each check is bounded by a concurrency bulkhead and a timeout, and guarded by a circuit
+ * breaker. Whenever the delegate cannot produce a verdict the configured
+ * {@link FraudFallbackPolicy} decides instead.
+ * 
+ * Breaker state transitions and fallback decisions are published as Micrometer counters,
+ * in addition to the Resilience4j circuit breaker and bulkhead metrics.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Slf4j
+public class ResilientFraudChecker implements FraudChecker, AutoCloseable {
+    
+    private final FraudChecker delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final TimeLimiter timeLimiter;
+    private final Executor callExecutor;
+    private final ScheduledExecutorService timeoutScheduler;
+    private final FraudFallbackPolicy fallbackPolicy;
+    private final BigDecimal suspiciousAmountThreshold;
+    private final MeterRegistry meterRegistry;
+    
+    /**
+     * Creates a new resilient fraud checker.
+     * 
+     * @param delegate the fraud checker calling the legacy system
+     * @param circuitBreaker the circuit breaker guarding the legacy system
+     * @param bulkhead the bulkhead limiting concurrent legacy calls
+     * @param timeLimiter the time limiter bounding each legacy call
+     * @param callExecutor the executor running the delegate calls
+     * @param fallbackPolicy the decision applied when the legacy system cannot be consulted
+     * @param suspiciousAmountThreshold the amount threshold used by the local rules fallback
+     * @param meterRegistry the registry for transition and fallback counters
+     */
+    public ResilientFraudChecker(FraudChecker delegate, CircuitBreaker circuitBreaker, Bulkhead bulkhead,
+                                 TimeLimiter timeLimiter, Executor callExecutor,
+                                 FraudFallbackPolicy fallbackPolicy, BigDecimal suspiciousAmountThreshold,
+                                 MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.timeLimiter = timeLimiter;
+        this.callExecutor = callExecutor;
+        this.timeoutScheduler = Executors.newSingleThreadScheduledExecutor(
+                runnable -> new Thread(runnable, "fraud-timeout"));
+        this.fallbackPolicy = fallbackPolicy;
+        this.suspiciousAmountThreshold = suspiciousAmountThreshold;
+        this.meterRegistry = meterRegistry;
+        
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            log.warn("Fraud circuit breaker '{}' changed state: {}", 
+                    event.getCircuitBreakerName(), event.getStateTransition());
+            Counter.builder("jfincore.fraud.circuitbreaker.transitions")
+                    .description("Fraud circuit breaker state transitions")
+                    .tag("from", event.getStateTransition().getFromState().name())
+                    .tag("to", event.getStateTransition().getToState().name())
+                    .register(meterRegistry)
+                    .increment();
+        });
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FraudVerdict check(Transaction transaction) {
+        Supplier<CompletionStage<FraudVerdict>> call = 
+                () -> CompletableFuture.supplyAsync(() -> delegate.check(transaction), callExecutor);
+        
+        // The bulkhead wraps the raw call so its permit is only released when the
+        // legacy call really finishes, even if the caller has already timed out
+        Supplier<CompletionStage<FraudVerdict>> guarded = CircuitBreaker.decorateCompletionStage(circuitBreaker,
+                timeLimiter.decorateCompletionStage(timeoutScheduler,
+                        Bulkhead.decorateCompletionStage(bulkhead, call)));
+        
+        try {
+            return guarded.get().toCompletableFuture().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomBusinessException(
+                    "Fraud check process was interrupted",
+                    "FRAUD_CHECK_INTERRUPTED", e);
+        } catch (ExecutionException e) {
+            return fallback(transaction, e.getCause());
+        }
+    }
+    
+    /**
+     * Stops the timeout scheduler.
+     */
+    @Override
+    public void close() {
+        timeoutScheduler.shutdownNow();
+    }
+    
+    /**
+     * Applies the fallback policy for a check the legacy system could not answer.
+     * 
+     * @param transaction the transaction being checked
+     * @param failure the reason the legacy system could not be consulted
+     * @return the fallback verdict
+     */
+    private FraudVerdict fallback(Transaction transaction, Throwable failure) {
+        String reason = fallbackReason(failure);
+        
+        FraudVerdict verdict = switch (fallbackPolicy) {
+            case LOCAL_RULES -> transaction.getAmount().compareTo(suspiciousAmountThreshold) > 0
+                    ? FraudVerdict.REJECT
+                    : FraudVerdict.APPROVE;
+            case PENDING_REVIEW -> FraudVerdict.REVIEW;
+            case REJECT -> FraudVerdict.REJECT;
+        };
+        
+        log.warn("Fraud check fallback for transaction: {}, reason: {}, policy: {}, verdict: {}", 
+                transaction.getId(), reason, fallbackPolicy, verdict);
+        
+        Counter.builder("jfincore.fraud.fallbacks")
+                .description("Fraud checks decided by the fallback policy")
+                .tag("reason", reason)
+                .tag("policy", fallbackPolicy.name())
+                .register(meterRegistry)
+                .increment();
+        
+        return verdict;
+    }
+    
+    /**
+     * Maps a failure to a bounded metric tag value.
+     * 
+     * @param failure the failure
+     * @return the fallback reason
+     */
+    private String fallbackReason(Throwable failure) {
+        while (failure instanceof CompletionException && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        if (failure instanceof CallNotPermittedException) {
+            return "circuit_open";
+        }
+        if (failure instanceof BulkheadFullException) {
+            return "bulkhead_full";
+        }
+        if (failure instanceof TimeoutException) {
+            return "timeout";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,77 @@
+package com.jfincore.fraud;
+
+import com.jfincore.entity.Transaction;
+import com.jfincore.exception.CustomBusinessException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Local stub of the legacy fraud detection system.
+ * Simulates the latency of the synchronous legacy call with a configurable sleep
+ * and flags a share of transactions above the suspicious amount threshold as fraud.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Slf4j
+public class SimulatedLegacyFraudClient implements LegacyFraudClient {
+    
+    private final Duration latency;
+    private final BigDecimal suspiciousAmountThreshold;
+    private final double rejectionProbability;
+    
+    /**
+     * Creates a new simulated legacy fraud client.
+     * 
+     * @param latency the simulated latency of each call
+     * @param suspiciousAmountThreshold amounts above this value may be flagged as fraud
+     * @param rejectionProbability the probability of flagging a suspicious transaction
+     */
+    public SimulatedLegacyFraudClient(Duration latency, BigDecimal suspiciousAmountThreshold, 
+                                      double rejectionProbability) {
+        this.latency = latency;
+        this.suspiciousAmountThreshold = suspiciousAmountThreshold;
+        this.rejectionProbability = rejectionProbability;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<FraudVerdict> score(List<Transaction> transactions) {
+        log.debug("Calling legacy fraud system for {} transaction(s)", transactions.size());
+        
+        try {
+            // Simulação de chamada síncrona a sistema legado de fraude
+            // This simulates the latency of calling a legacy fraud detection system
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            log.error("Legacy fraud call interrupted for {} transaction(s)", transactions.size(), e);
+            Thread.currentThread().interrupt();
+            throw new CustomBusinessException(
+                    "Fraud check process was interrupted",
+                    "FRAUD_CHECK_INTERRUPTED", e);
+        }
+        
+        return transactions.stream()
+                .map(this::scoreOne)
+                .toList();
+    }
+    
+    /**
+     * Transactions above the suspicious threshold are flagged as fraud with the
+     * configured probability; all others pass.
+     * 
+     * @param transaction the transaction to score
+     * @return the fraud verdict
+     */
+    private FraudVerdict scoreOne(Transaction transaction) {
+        boolean isFraudulent = transaction.getAmount().compareTo(suspiciousAmountThreshold) > 0
+                && ThreadLocalRandom.current().nextDouble() < rejectionProbability;
+        return isFraudulent ? FraudVerdict.REJECT : FraudVerdict.APPROVE;
+    }
+}
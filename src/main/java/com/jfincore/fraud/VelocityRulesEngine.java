@@ -0,0 +1,250 @@
+package com.jfincore.fraud;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jfincore.entity.Transaction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Local fraud rules evaluated in memory against a sliding window of each account's
+ * recent transactions: transaction count, amount velocity and time since the previous
+ * transaction. Obvious cases are decided here in microseconds; ambiguous ones are left
+ * to the legacy fraud system.
+ * 
+ * Windows hold approved transactions only. Evaluating a transaction does not change its
+ * account's window; the caller records it once it is approved, so rejected attempts never
+ * count against the amount or number of transactions an account may still make.
+ * 
+ * Each account's window is guarded by its own monitor, so checks for different accounts
+ * never contend. Windows of accounts without recent activity expire on their own.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Slf4j
+public class VelocityRulesEngine {
+    
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int maxTransactionsPerWindow;
+    private final BigDecimal maxAmountPerWindow;
+    private final long minIntervalMillis;
+    private final BigDecimal autoApproveAmount;
+    private final Clock clock;
+    private final Cache<String, AccountWindow> accounts;
+    private final Map<Rule, Counter> decisionCounters = new EnumMap<>(Rule.class);
+    
+    /**
+     * Creates a new velocity rules engine.
+     * 
+     * @param enabled whether the rules decide anything; if not, every check is escalated
+     * @param window the length of the sliding window
+     * @param maxTransactionsPerWindow transactions beyond this count within the window are rejected
+     * @param maxAmountPerWindow transactions taking the window total above this amount are rejected
+     * @param minInterval transactions following the previous one faster than this are escalated
+     * @param autoApproveAmount transactions up to this amount are approved unless another rule applies
+     * @param maximumAccounts the maximum number of account windows held in memory
+     * @param clock the clock used for transactions without a timestamp
+     * @param meterRegistry the registry for decision metrics
+     */
+    public VelocityRulesEngine(boolean enabled, Duration window, int maxTransactionsPerWindow,
+                               BigDecimal maxAmountPerWindow, Duration minInterval, BigDecimal autoApproveAmount,
+                               long maximumAccounts, Clock clock, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.windowMillis = window.toMillis();
+        this.maxTransactionsPerWindow = maxTransactionsPerWindow;
+        this.maxAmountPerWindow = maxAmountPerWindow;
+        this.minIntervalMillis = minInterval.toMillis();
+        this.autoApproveAmount = autoApproveAmount;
+        this.clock = clock;
+        this.accounts = Caffeine.newBuilder()
+                .maximumSize(maximumAccounts)
+                .expireAfterAccess(window)
+                .build();
+        
+        for (Rule rule : Rule.values()) {
+            decisionCounters.put(rule, Counter.builder("jfincore.fraud.rules.decisions")
+                    .description("Fraud checks evaluated by the local velocity rules")
+                    .tag("rule", rule.name().toLowerCase(Locale.ROOT))
+                    .tag("outcome", rule.verdict == null ? "escalate" : rule.verdict.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        Gauge.builder("jfincore.fraud.rules.accounts", accounts, Cache::estimatedSize)
+                .description("Accounts with a sliding window held in memory")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Evaluates the rules for a transaction against its account's window.
+     * 
+     * @param transaction the transaction to evaluate
+     * @return the local verdict, or empty if the legacy fraud system must decide
+     */
+    public Optional<FraudVerdict> evaluate(Transaction transaction) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        
+        AccountWindow window = accounts.get(transaction.getAccountId(), accountId -> new AccountWindow());
+        Rule rule = window.evaluate(epochMillis(transaction.getTimestamp()), transaction.getAmount());
+        decisionCounters.get(rule).increment();
+        
+        log.debug("Velocity rule {} applied to transaction: {}", rule, transaction.getId());
+        
+        return Optional.ofNullable(rule.verdict);
+    }
+    
+    /**
+     * Adds an approved transaction to its account's window. Called once the approval is
+     * committed, and at startup for the transactions approved within the last window.
+     * 
+     * @param transaction the approved transaction
+     */
+    public void record(Transaction transaction) {
+        if (!enabled) {
+            return;
+        }
+        
+        long at = epochMillis(transaction.getTimestamp());
+        if (at < clock.millis() - windowMillis) {
+            // Approved after it had already left the window, e.g. after a review
+            return;
+        }
+        accounts.get(transaction.getAccountId(), accountId -> new AccountWindow()).record(at, transaction.getAmount());
+    }
+    
+    /**
+     * Returns whether the rules decide anything.
+     * 
+     * @return true if the rules are enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Returns the length of the sliding window.
+     * 
+     * @return the window length
+     */
+    public Duration getWindow() {
+        return Duration.ofMillis(windowMillis);
+    }
+    
+    /**
+     * Converts a transaction timestamp to epoch milliseconds in the clock's zone.
+     * 
+     * @param timestamp the transaction timestamp, possibly null
+     * @return the epoch milliseconds, or the current time if there is no timestamp
+     */
+    private long epochMillis(LocalDateTime timestamp) {
+        return timestamp == null
+                ? clock.millis()
+                : timestamp.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+    
+    /**
+     * The rules, in evaluation order, with the verdict each one produces.
+     * A null verdict escalates the check to the legacy fraud system.
+     */
+    private enum Rule {
+        TRANSACTION_COUNT(FraudVerdict.REJECT),
+        AMOUNT_VELOCITY(FraudVerdict.REJECT),
+        RAPID_SUCCESSION(null),
+        SMALL_AMOUNT(FraudVerdict.APPROVE),
+        LARGE_AMOUNT(null);
+        
+        private final FraudVerdict verdict;
+        
+        Rule(FraudVerdict verdict) {
+            this.verdict = verdict;
+        }
+    }
+    
+    /**
+     * Sliding window of one account's recent approved transactions, with a running total.
+     */
+    private final class AccountWindow {
+        
+        private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+        private BigDecimal total = BigDecimal.ZERO;
+        private long lastAt = Long.MIN_VALUE;
+        
+        /**
+         * Applies the rules to a new transaction.
+         * 
+         * @param at the transaction time in epoch milliseconds
+         * @param amount the transaction amount
+         * @return the first rule that applies
+         */
+        synchronized Rule evaluate(long at, BigDecimal amount) {
+            evictBefore(at - windowMillis);
+            
+            Rule rule;
+            if (entries.size() + 1 > maxTransactionsPerWindow) {
+                rule = Rule.TRANSACTION_COUNT;
+            } else if (total.add(amount).compareTo(maxAmountPerWindow) > 0) {
+                rule = Rule.AMOUNT_VELOCITY;
+            } else if (lastAt != Long.MIN_VALUE && at - lastAt < minIntervalMillis) {
+                rule = Rule.RAPID_SUCCESSION;
+            } else if (amount.compareTo(autoApproveAmount) <= 0) {
+                rule = Rule.SMALL_AMOUNT;
+            } else {
+                rule = Rule.LARGE_AMOUNT;
+            }
+            return rule;
+        }
+        
+        /**
+         * Adds an approved transaction to the window. Entries stay in time order: a
+         * transaction approved after a newer one, e.g. after a review, is counted from the
+         * newer one's time. The count rule keeps the window within the maximum number of
+         * transactions; only a rebuild after lowering that maximum could exceed it, so a
+         * full window just tracks the time of further transactions.
+         * 
+         * @param at the transaction time in epoch milliseconds
+         * @param amount the transaction amount
+         */
+        synchronized void record(long at, BigDecimal amount) {
+            long orderedAt = entries.isEmpty() ? at : Math.max(at, entries.peekLast().at());
+            if (entries.size() < maxTransactionsPerWindow) {
+                entries.addLast(new Entry(orderedAt, amount));
+                total = total.add(amount);
+            }
+            lastAt = Math.max(lastAt, at);
+        }
+        
+        /**
+         * Drops the transactions that left the window.
+         * 
+         * @param cutoff the oldest time still inside the window
+         */
+        private void evictBefore(long cutoff) {
+            while (!entries.isEmpty() && entries.peekFirst().at() < cutoff) {
+                total = total.subtract(entries.removeFirst().amount());
+            }
+        }
+    }
+    
+    /**
+     * One transaction in a window.
+     * 
+     * @param at the transaction time in epoch milliseconds
+     * @param amount the transaction amount
+     */
+    private record Entry(long at, BigDecimal amount) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.jfincore.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Assigns a correlation id to every request and exposes it to the logs through the MDC,
+ * so that all log lines of one request can be found together.
+ * 
+ * The id is taken from the {@code X-Correlation-Id} request header when the client sends
+ * a well-formed one, and generated otherwise; either way it is echoed in the response.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+    
+    /**
+     * The request and response header carrying the correlation id.
+     */
+    public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+    
+    /**
+     * The MDC key holding the correlation id.
+     */
+    public static final String CORRELATION_ID_KEY = "correlationId";
+    
+    // Client-supplied ids end up in every log line, so only short, plain tokens are accepted
+    private static final Pattern VALID_CORRELATION_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String correlationId = resolveCorrelationId(request.getHeader(CORRELATION_ID_HEADER));
+        
+        MDC.put(CORRELATION_ID_KEY, correlationId);
+        response.setHeader(CORRELATION_ID_HEADER, correlationId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(CORRELATION_ID_KEY);
+        }
+    }
+    
+    /**
+     * Uses the client-supplied correlation id if it is well-formed, or generates a new one.
+     * 
+     * @param headerValue the correlation id header value, possibly null
+     * @return the correlation id of the request
+     */
+    private String resolveCorrelationId(String headerValue) {
+        if (headerValue != null && VALID_CORRELATION_ID.matcher(headerValue).matches()) {
+            return headerValue;
+        }
+        return UUID.randomUUID().toString();
+    }
+}
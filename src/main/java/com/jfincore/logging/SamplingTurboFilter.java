@@ -0,0 +1,78 @@
+package com.jfincore.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logback turbo filter that keeps only a sample of the INFO events of hot-path loggers.
+ * 
+ * The decision is taken before the event is created or its message formatted, so dropped
+ * events cost next to nothing. WARN and ERROR events always pass, and loggers outside the
+ * configured prefixes are not affected. Sampling is random rather than counter based, so
+ * request threads never contend on shared state.
+ * 
+ * Configured in {@code logback-spring.xml}:
+ * <pre>
+ * &lt;turboFilter class="com.jfincore.logging.SamplingTurboFilter"&gt;
+ *     &lt;loggerPrefix&gt;com.jfincore.controller&lt;/loggerPrefix&gt;
+ *     &lt;sampleRate&gt;100&lt;/sampleRate&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+public class SamplingTurboFilter extends TurboFilter {
+    
+    private final List<String> loggerPrefixes = new ArrayList<>();
+    private int sampleRate = 1;
+    
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format,
+                              Object[] params, Throwable t) {
+        if (level != Level.INFO || sampleRate <= 1 || !isSampled(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextInt(sampleRate) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+    
+    /**
+     * Adds a logger name prefix whose INFO events are sampled.
+     * 
+     * @param loggerPrefix the logger name or package prefix
+     */
+    public void addLoggerPrefix(String loggerPrefix) {
+        loggerPrefixes.add(loggerPrefix.trim());
+    }
+    
+    /**
+     * Sets how many INFO events are seen for each one kept; 1 keeps them all.
+     * 
+     * @param sampleRate the sample rate
+     */
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+    
+    /**
+     * Checks whether a logger falls under one of the sampled prefixes.
+     * 
+     * @param name the logger name
+     * @return true if the logger's INFO events are sampled
+     */
+    private boolean isSampled(String name) {
+        for (String loggerPrefix : loggerPrefixes) {
+            if (name.startsWith(loggerPrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
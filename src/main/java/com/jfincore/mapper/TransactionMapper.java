@@ -1,7 +1,9 @@
 package com.jfincore.mapper;
 
+import com.jfincore.dto.TransactionEventDTO;
 import com.jfincore.dto.TransactionRequestDTO;
 import com.jfincore.dto.TransactionResponseDTO;
+import com.jfincore.entity.OutboxEvent;
 import com.jfincore.entity.Transaction;
 import org.springframework.stereotype.Component;
 
@@ -56,4 +58,26 @@ public class TransactionMapper {
             entity.getTimestamp()
         );
     }
+    
+    /**
+     * Converts a published OutboxEvent entity to a TransactionEventDTO.
+     * 
+     * @param entity the published outbox event
+     * @return a TransactionEventDTO containing the event data
+     * @throws IllegalArgumentException if entity is null or not published yet
+     */
+    public TransactionEventDTO toEventDTO(OutboxEvent entity) {
+        if (entity == null || entity.getStreamOffset() == null) {
+            throw new IllegalArgumentException("OutboxEvent entity must be published");
+        }
+        
+        return new TransactionEventDTO(
+            entity.getStreamOffset(),
+            entity.getTransactionId(),
+            entity.getAccountId(),
+            entity.getAmount(),
+            entity.getStatus(),
+            entity.getOccurredAt()
+        );
+    }
 }
\ No newline at end of file
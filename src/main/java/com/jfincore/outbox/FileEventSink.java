@@ -0,0 +1,72 @@
+package com.jfincore.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jfincore.dto.TransactionEventDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Sink for local use that appends events to a file as newline-delimited JSON.
+ * Each batch is flushed and synced to disk before {@link #publish} returns.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Slf4j
+public class FileEventSink implements TransactionEventSink, Closeable {
+    
+    private final ObjectMapper objectMapper;
+    private final FileOutputStream fileStream;
+    private final OutputStream outputStream;
+    
+    /**
+     * Creates a new file sink, appending to the file if it already exists.
+     * 
+     * @param file the file to append to
+     * @param objectMapper the mapper serializing the events
+     * @throws IOException if the file cannot be opened
+     */
+    public FileEventSink(Path file, ObjectMapper objectMapper) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.objectMapper = objectMapper;
+        this.fileStream = new FileOutputStream(file.toFile(), true);
+        this.outputStream = new BufferedOutputStream(fileStream);
+        log.info("Publishing transaction events to file: {}", file.toAbsolutePath());
+    }
+    
+    @Override
+    public synchronized void publish(List<TransactionEventDTO> events) {
+        try {
+            for (TransactionEventDTO event : events) {
+                outputStream.write(objectMapper.writeValueAsBytes(event));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+            fileStream.getFD().sync();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write transaction events", e);
+        }
+    }
+    
+    /**
+     * Closes the file.
+     * 
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        outputStream.close();
+    }
+}
@@ -0,0 +1,36 @@
+package com.jfincore.outbox;
+
+import com.jfincore.dto.TransactionEventDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+/**
+ * Sink for local use that publishes each batch as a {@link TransactionEventBatch}
+ * application event, received synchronously by {@code @EventListener} methods in the
+ * same application.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Slf4j
+public class InProcessEventSink implements TransactionEventSink {
+    
+    private final ApplicationEventPublisher eventPublisher;
+    
+    /**
+     * Creates a new in-process sink.
+     * 
+     * @param eventPublisher the application event publisher
+     */
+    public InProcessEventSink(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+    
+    @Override
+    public void publish(List<TransactionEventDTO> events) {
+        eventPublisher.publishEvent(new TransactionEventBatch(List.copyOf(events)));
+        log.debug("Published {} transaction events in process", events.size());
+    }
+}
@@ -0,0 +1,108 @@
+package com.jfincore.outbox;
+
+import com.jfincore.config.OutboxProperties;
+import com.jfincore.dto.TransactionEventDTO;
+import com.jfincore.entity.OutboxEvent;
+import com.jfincore.mapper.TransactionMapper;
+import com.jfincore.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Background job that publishes the events waiting in the transactional outbox to the
+ * configured {@link TransactionEventSink}, in batches.
+ * 
+ * Each batch is read, assigned consecutive stream offsets, handed to the sink and marked
+ * as published in one short transaction; a failing sink rolls the batch back, so it is
+ * retried by the next run. Only one instance should run the relay, the unique offset
+ * constraint makes a concurrent relay fail rather than publish duplicate offsets.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "jfincore.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+    
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionEventSink eventSink;
+    private final TransactionMapper transactionMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionEventStream eventStream;
+    private final OutboxProperties properties;
+    
+    /**
+     * Publishes batches until the outbox is drained, then waits for the configured
+     * interval (ISO-8601 duration) before the next run.
+     */
+    @Scheduled(fixedDelayString = "${jfincore.outbox.relay-interval:PT0.2S}")
+    public void relay() {
+        try {
+            List<TransactionEventDTO> published;
+            do {
+                published = publishBatch();
+                if (!published.isEmpty()) {
+                    eventStream.onPublished(published.get(published.size() - 1).getOffset());
+                }
+            } while (published.size() == properties.getBatchSize());
+        } catch (RuntimeException e) {
+            log.error("Outbox relay failed", e);
+        }
+    }
+    
+    /**
+     * Deletes published events older than the retention period at the configured
+     * interval (ISO-8601 duration).
+     */
+    @Scheduled(initialDelayString = "${jfincore.outbox.cleanup-interval:PT1H}",
+               fixedDelayString = "${jfincore.outbox.cleanup-interval:PT1H}")
+    public void deleteExpiredEvents() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+            Integer deleted = transactionTemplate.execute(status ->
+                    outboxEventRepository.deletePublishedBefore(cutoff));
+            log.info("Outbox cleanup completed: {} published events deleted", deleted);
+        } catch (RuntimeException e) {
+            log.error("Outbox cleanup failed", e);
+        }
+    }
+    
+    /**
+     * Publishes the oldest unpublished events in one short transaction.
+     * 
+     * @return the published events, in stream order; empty if the outbox was drained
+     */
+    private List<TransactionEventDTO> publishBatch() {
+        return transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxEventRepository
+                    .findByStreamOffsetIsNullOrderByIdAsc(Limit.of(properties.getBatchSize()));
+            if (events.isEmpty()) {
+                return List.of();
+            }
+            
+            long offset = outboxEventRepository.findMaxStreamOffset().orElse(0L);
+            List<TransactionEventDTO> eventDTOs = new ArrayList<>(events.size());
+            for (OutboxEvent event : events) {
+                // Flushed as part of the commit, after the sink accepted the batch
+                event.setStreamOffset(++offset);
+                eventDTOs.add(transactionMapper.toEventDTO(event));
+            }
+            
+            eventSink.publish(eventDTOs);
+            log.debug("Published {} transaction events up to offset {}", eventDTOs.size(), offset);
+            
+            return eventDTOs;
+        });
+    }
+}
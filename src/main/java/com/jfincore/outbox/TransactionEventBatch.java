@@ -0,0 +1,17 @@
+package com.jfincore.outbox;
+
+import com.jfincore.dto.TransactionEventDTO;
+
+import java.util.List;
+
+/**
+ * Spring application event carrying a batch of transaction events published
+ * through the {@link InProcessEventSink}.
+ * 
+ * @param events the published events, in stream order
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+public record TransactionEventBatch(List<TransactionEventDTO> events) {
+}
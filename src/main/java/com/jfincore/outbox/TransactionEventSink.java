@@ -0,0 +1,27 @@
+package com.jfincore.outbox;
+
+import com.jfincore.dto.TransactionEventDTO;
+
+import java.util.List;
+
+/**
+ * Destination of the transaction status change events published by the outbox relay.
+ * 
+ * Publication is at-least-once: a batch is published before the relay records it as
+ * published, so a batch interrupted by a crash is published again, possibly under new
+ * offsets. Consumers needing exactly-once processing deduplicate on transaction id and
+ * status. Providing a bean of this type replaces the configured local sink.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+public interface TransactionEventSink {
+    
+    /**
+     * Publishes a batch of events, in stream order. Returns only once the batch is durably
+     * handed over; throwing leaves the events in the outbox for the next relay run.
+     * 
+     * @param events the events to publish
+     */
+    void publish(List<TransactionEventDTO> events);
+}
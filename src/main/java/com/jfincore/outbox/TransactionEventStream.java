@@ -0,0 +1,292 @@
+package com.jfincore.outbox;
+
+import com.jfincore.config.OutboxProperties;
+import com.jfincore.dto.TransactionEventDTO;
+import com.jfincore.exception.CustomBusinessException;
+import com.jfincore.mapper.TransactionMapper;
+import com.jfincore.repository.OutboxEventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves the published transaction events to consumers subscribing by offset, either
+ * through long-poll requests or Server-Sent Events.
+ * 
+ * Waiting subscribers hold no request thread. They are served whenever the published
+ * stream advances: immediately after a local relay run, and otherwise on the next check
+ * of the latest offset, so instances not running the relay serve the stream as well.
+ * Each check is one indexed MAX query, however many consumers subscribe.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class TransactionEventStream {
+    
+    /**
+     * Name of the Server-Sent Events carrying transaction events
+     */
+    public static final String EVENT_NAME = "transaction-status";
+    
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionMapper transactionMapper;
+    private final OutboxProperties properties;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private volatile long latestOffset;
+    
+    /**
+     * Creates a new event stream.
+     * 
+     * @param outboxEventRepository the outbox repository
+     * @param transactionMapper the mapper converting outbox events
+     * @param properties the outbox properties
+     */
+    public TransactionEventStream(OutboxEventRepository outboxEventRepository,
+                                  TransactionMapper transactionMapper,
+                                  OutboxProperties properties) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionMapper = transactionMapper;
+        this.properties = properties;
+    }
+    
+    /**
+     * Returns the events following an offset, waiting for them if there are none yet.
+     * The result is empty if no event was published before the timeout.
+     * 
+     * @param afterOffset the offset of the last event already processed, 0 to start from the oldest retained event
+     * @param timeout the maximum time to wait, capped at the maximum poll timeout
+     * @return the deferred events, in stream order
+     * @throws CustomBusinessException if the offset or timeout is negative
+     */
+    public DeferredResult<List<TransactionEventDTO>> poll(long afterOffset, Duration timeout) {
+        validateOffset(afterOffset);
+        if (timeout.isNegative()) {
+            throw new CustomBusinessException(
+                    "Poll timeout must not be negative",
+                    "INVALID_POLL_TIMEOUT");
+        }
+        
+        Duration wait = timeout.compareTo(properties.getMaxPollTimeout()) > 0 ? properties.getMaxPollTimeout() : timeout;
+        DeferredResult<List<TransactionEventDTO>> result = new DeferredResult<>(wait.toMillis(), List.of());
+        
+        List<TransactionEventDTO> events = readAfter(afterOffset);
+        if (!events.isEmpty() || wait.isZero()) {
+            result.setResult(events);
+            return result;
+        }
+        
+        Subscription subscription = new PollSubscription(afterOffset, result);
+        result.onCompletion(() -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+        
+        return result;
+    }
+    
+    /**
+     * Opens a Server-Sent Events subscription delivering every event following an offset,
+     * each carrying its offset as event id. The subscription is closed after the SSE timeout;
+     * clients reconnect with the {@code Last-Event-ID} header to resume.
+     * 
+     * @param afterOffset the offset of the last event already processed, 0 to start from the oldest retained event
+     * @return the event emitter
+     * @throws CustomBusinessException if the offset is negative
+     */
+    public SseEmitter subscribe(long afterOffset) {
+        validateOffset(afterOffset);
+        
+        SseEmitter emitter = new SseEmitter(properties.getSseTimeout().toMillis());
+        Subscription subscription = new SseSubscription(afterOffset, emitter);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+        
+        return emitter;
+    }
+    
+    /**
+     * Serves waiting subscribers after the local relay published events.
+     * 
+     * @param offset the offset of the last published event
+     */
+    public void onPublished(long offset) {
+        if (offset > latestOffset) {
+            latestOffset = offset;
+        }
+        dispatch();
+    }
+    
+    /**
+     * Checks the latest published offset and serves the subscribers behind it at the
+     * relay interval (ISO-8601 duration), catching up with relays running elsewhere and
+     * with subscriptions registered while events were being dispatched.
+     */
+    @Scheduled(fixedDelayString = "${jfincore.outbox.relay-interval:PT0.2S}")
+    public void refresh() {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        try {
+            onPublished(outboxEventRepository.findMaxStreamOffset().orElse(0L));
+        } catch (RuntimeException e) {
+            log.error("Transaction event dispatch failed", e);
+        }
+    }
+    
+    /**
+     * Completes the open SSE subscriptions so that clients reconnect to another instance.
+     */
+    @PreDestroy
+    public void close() {
+        subscriptions.forEach(Subscription::close);
+        subscriptions.clear();
+    }
+    
+    /**
+     * Delivers the events each subscriber has not received yet.
+     */
+    private synchronized void dispatch() {
+        for (Subscription subscription : subscriptions) {
+            boolean open = true;
+            while (open && subscription.offset < latestOffset) {
+                List<TransactionEventDTO> events = readAfter(subscription.offset);
+                if (events.isEmpty()) {
+                    break;
+                }
+                open = subscription.deliver(events);
+                subscription.offset = events.get(events.size() - 1).getOffset();
+            }
+            if (!open) {
+                subscriptions.remove(subscription);
+            }
+        }
+    }
+    
+    /**
+     * Reads the published events following an offset.
+     * 
+     * @param afterOffset the offset after which to read
+     * @return at most the maximum read size of events, in stream order
+     */
+    private List<TransactionEventDTO> readAfter(long afterOffset) {
+        return outboxEventRepository
+                .findByStreamOffsetGreaterThanOrderByStreamOffsetAsc(afterOffset, Limit.of(properties.getMaxReadSize()))
+                .stream()
+                .map(transactionMapper::toEventDTO)
+                .toList();
+    }
+    
+    /**
+     * Validates a subscription offset.
+     * 
+     * @param offset the offset
+     * @throws CustomBusinessException if the offset is negative
+     */
+    private void validateOffset(long offset) {
+        if (offset < 0) {
+            throw new CustomBusinessException(
+                    "Event offset must not be negative",
+                    "INVALID_EVENT_OFFSET");
+        }
+    }
+    
+    /**
+     * A consumer waiting for the events following its offset.
+     */
+    private abstract static class Subscription {
+        
+        /**
+         * Offset of the last event delivered to the consumer
+         */
+        long offset;
+        
+        Subscription(long offset) {
+            this.offset = offset;
+        }
+        
+        /**
+         * Delivers events to the consumer.
+         * 
+         * @param events the events following the offset, in stream order
+         * @return true if the subscription stays open for further events
+         */
+        abstract boolean deliver(List<TransactionEventDTO> events);
+        
+        /**
+         * Ends the subscription.
+         */
+        abstract void close();
+    }
+    
+    /**
+     * A long-poll request, answered with the first events published after its offset.
+     */
+    private static final class PollSubscription extends Subscription {
+        
+        private final DeferredResult<List<TransactionEventDTO>> result;
+        
+        PollSubscription(long offset, DeferredResult<List<TransactionEventDTO>> result) {
+            super(offset);
+            this.result = result;
+        }
+        
+        @Override
+        boolean deliver(List<TransactionEventDTO> events) {
+            result.setResult(events);
+            return false;
+        }
+        
+        @Override
+        void close() {
+            result.setResult(List.of());
+        }
+    }
+    
+    /**
+     * A Server-Sent Events subscription, receiving every event published after its offset.
+     */
+    private static final class SseSubscription extends Subscription {
+        
+        private final SseEmitter emitter;
+        
+        SseSubscription(long offset, SseEmitter emitter) {
+            super(offset);
+            this.emitter = emitter;
+        }
+        
+        @Override
+        boolean deliver(List<TransactionEventDTO> events) {
+            try {
+                for (TransactionEventDTO event : events) {
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(event.getOffset()))
+                            .name(EVENT_NAME)
+                            .data(event));
+                }
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // Client gone or emitter already completed
+                log.debug("Closing transaction event subscription: {}", e.getMessage());
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+        
+        @Override
+        void close() {
+            emitter.complete();
+        }
+    }
+}
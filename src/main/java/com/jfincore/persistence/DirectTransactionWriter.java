@@ -0,0 +1,90 @@
+package com.jfincore.persistence;
+
+import com.jfincore.entity.OutboxEvent;
+import com.jfincore.entity.Transaction;
+import com.jfincore.exception.CustomBusinessException;
+import com.jfincore.repository.OutboxEventRepository;
+import com.jfincore.repository.TransactionRepository;
+import com.jfincore.service.BalanceService;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Transaction writer that persists each state change in its own short transaction.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+public class DirectTransactionWriter implements TransactionWriter {
+    
+    private final TransactionRepository transactionRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final BalanceService balanceService;
+    private final TransactionTemplate transactionTemplate;
+    
+    /**
+     * Creates a new direct transaction writer.
+     * 
+     * @param transactionRepository the transaction repository
+     * @param outboxEventRepository the outbox repository
+     * @param balanceService the balance service
+     * @param transactionTemplate the template for write transactions
+     */
+    public DirectTransactionWriter(TransactionRepository transactionRepository,
+                                   OutboxEventRepository outboxEventRepository,
+                                   BalanceService balanceService,
+                                   TransactionTemplate transactionTemplate) {
+        this.transactionRepository = transactionRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.balanceService = balanceService;
+        this.transactionTemplate = transactionTemplate;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Transaction insertPending(Transaction transaction) {
+        return transactionTemplate.execute(status -> transactionRepository.saveAndFlush(transaction));
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Transaction saveFinalStatus(Transaction transaction) {
+        return transactionTemplate.execute(status -> {
+            if (transactionRepository.updatePendingStatus(transaction.getStatus(), List.of(transaction.getId())) != 1) {
+                throw alreadyDecided(transaction);
+            }
+            recordFinalStatus(transaction);
+            return transaction;
+        });
+    }
+    
+    /**
+     * Adds a transaction whose final status is written in the current database transaction
+     * to the account balance and records the status change in the outbox.
+     * 
+     * @param transaction the transaction in its final status
+     */
+    void recordFinalStatus(Transaction transaction) {
+        balanceService.recordFinalStatus(transaction);
+        outboxEventRepository.save(new OutboxEvent(transaction, LocalDateTime.now()));
+    }
+    
+    /**
+     * Creates the exception reporting a final status that was not written because the
+     * transaction is no longer PENDING.
+     * 
+     * @param transaction the transaction whose final status was not written
+     * @return the exception to throw
+     */
+    static CustomBusinessException alreadyDecided(Transaction transaction) {
+        return new CustomBusinessException(
+                "Transaction " + transaction.getId() + " is no longer pending",
+                "TRANSACTION_ALREADY_DECIDED");
+    }
+}
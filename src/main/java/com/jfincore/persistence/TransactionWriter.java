@@ -0,0 +1,36 @@
+package com.jfincore.persistence;
+
+import com.jfincore.entity.Transaction;
+
+/**
+ * Persists the state changes of a transaction: its creation in PENDING status and its
+ * final status, which also updates the account balance and records the change in the
+ * transactional outbox. Both methods return only once the change is committed.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+public interface TransactionWriter {
+    
+    /**
+     * Persists a new transaction in PENDING status.
+     * 
+     * @param transaction the new transaction
+     * @return the persisted transaction, with its identifier assigned
+     * @throws org.springframework.dao.DataIntegrityViolationException if a transaction already exists for its idempotency key
+     */
+    Transaction insertPending(Transaction transaction);
+    
+    /**
+     * Persists the final status of a transaction together with the account balance
+     * and the outbox event. The status is only written while the transaction is still
+     * PENDING, so concurrent decisions of the same transaction count once.
+     * 
+     * @param transaction the transaction in its final status
+     * @return the saved transaction
+     * @throws org.springframework.dao.DataIntegrityViolationException if the account's balance row was created concurrently
+     * @throws com.jfincore.exception.CustomBusinessException with code {@code TRANSACTION_ALREADY_DECIDED} if
+     *         the transaction is no longer PENDING; nothing is written then
+     */
+    Transaction saveFinalStatus(Transaction transaction);
+}
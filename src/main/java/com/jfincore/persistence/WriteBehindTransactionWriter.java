@@ -0,0 +1,288 @@
+package com.jfincore.persistence;
+
+import com.jfincore.entity.Transaction;
+import com.jfincore.entity.TransactionStatus;
+import com.jfincore.exception.CustomBusinessException;
+import com.jfincore.repository.TransactionRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Transaction writer that groups the state changes of concurrent requests into one
+ * database transaction.
+ * 
+ * Changes are queued in a bounded ring buffer and written by a single writer thread
+ * once the batch reaches its maximum size or the oldest change has waited for the
+ * maximum delay. New transactions are inserted with one JDBC batch, rewritten by the
+ * driver into multi-row INSERT statements, and final statuses are set with one UPDATE
+ * per status. Callers block until the batch holding their change is committed, so a
+ * response is never sent for a change that a crash could still lose; when the buffer
+ * is full, callers wait up to the enqueue timeout and are then refused.
+ * 
+ * When a batch fails, its changes are written again one by one, so that only the
+ * offending change fails. This includes final statuses of transactions that are no
+ * longer PENDING, which are refused like in the {@link DirectTransactionWriter}.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Slf4j
+public class WriteBehindTransactionWriter implements TransactionWriter, AutoCloseable {
+    
+    private static final long WRITER_POLL_MILLIS = 100;
+    
+    private final DirectTransactionWriter directWriter;
+    private final TransactionRepository transactionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final long enqueueTimeoutNanos;
+    private final BlockingQueue<PendingWrite> buffer;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Thread writer;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer batchLatencyTimer;
+    private volatile boolean running = true;
+    
+    /**
+     * Creates a new write-behind transaction writer and starts its writer thread.
+     * 
+     * @param directWriter the writer used for the individual retry of failed batches
+     * @param transactionRepository the transaction repository
+     * @param transactionTemplate the template for write transactions
+     * @param bufferCapacity the maximum number of changes waiting to be written
+     * @param maxBatchSize the maximum number of changes written in one transaction
+     * @param maxDelay the maximum time a change waits for its batch to fill up
+     * @param enqueueTimeout the maximum time a caller waits for room in a full buffer
+     * @param meterRegistry the registry for batch size, latency and buffer metrics
+     */
+    public WriteBehindTransactionWriter(DirectTransactionWriter directWriter,
+                                        TransactionRepository transactionRepository,
+                                        TransactionTemplate transactionTemplate,
+                                        int bufferCapacity, int maxBatchSize, Duration maxDelay,
+                                        Duration enqueueTimeout, MeterRegistry meterRegistry) {
+        this.directWriter = directWriter;
+        this.transactionRepository = transactionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.enqueueTimeoutNanos = enqueueTimeout.toNanos();
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        
+        this.batchSizeSummary = DistributionSummary.builder("jfincore.persistence.write-behind.batch.size")
+                .description("Number of transaction state changes written per database transaction")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchLatencyTimer = Timer.builder("jfincore.persistence.write-behind.batch.latency")
+                .description("Time to write and commit one batch of transaction state changes")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("jfincore.persistence.write-behind.buffer.size", buffer, BlockingQueue::size)
+                .description("Transaction state changes waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("jfincore.persistence.write-behind.waiting", waiting, AtomicInteger::get)
+                .description("Requests waiting for their transaction state change to be committed")
+                .register(meterRegistry);
+        
+        this.writer = new Thread(this::writeLoop, "transaction-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Transaction insertPending(Transaction transaction) {
+        return write(new PendingWrite(Kind.INSERT, transaction, new CompletableFuture<>()));
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Transaction saveFinalStatus(Transaction transaction) {
+        return write(new PendingWrite(Kind.FINAL_STATUS, transaction, new CompletableFuture<>()));
+    }
+    
+    /**
+     * Stops accepting new changes and writes the changes already buffered.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Buffers a change and waits until it is committed.
+     * 
+     * @param pending the change to write
+     * @return the written transaction
+     * @throws TaskRejectedException if the buffer stays full for the enqueue timeout
+     */
+    private Transaction write(PendingWrite pending) {
+        try {
+            if (!running || !buffer.offer(pending, enqueueTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new TaskRejectedException("Transaction write buffer is full");
+            }
+            waiting.incrementAndGet();
+            try {
+                return pending.result().get();
+            } finally {
+                waiting.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomBusinessException(
+                    "Transaction write was interrupted",
+                    "WRITE_INTERRUPTED", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Transaction write failed", e.getCause());
+        }
+    }
+    
+    /**
+     * Collects buffered changes into batches and writes them until the writer is
+     * closed and the buffer is drained.
+     */
+    private void writeLoop() {
+        while (running || !buffer.isEmpty()) {
+            try {
+                PendingWrite first = buffer.poll(WRITER_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                
+                List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                
+                while (batch.size() < maxBatchSize) {
+                    PendingWrite next = buffer.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    buffer.drainTo(batch, maxBatchSize - batch.size());
+                }
+                
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Writes a batch in one database transaction and completes every change once it is
+     * committed, or writes the changes one by one if the batch fails.
+     * 
+     * @param batch the changes to write
+     */
+    private void writeBatch(List<PendingWrite> batch) {
+        batchSizeSummary.record(batch.size());
+        
+        try {
+            batchLatencyTimer.record(() -> transactionTemplate.executeWithoutResult(status -> apply(batch)));
+            batch.forEach(pending -> pending.result().complete(pending.transaction()));
+        } catch (RuntimeException e) {
+            log.warn("Write of {} transaction state changes failed, writing them one by one: {}",
+                    batch.size(), e.getMessage());
+            batch.forEach(this::writeIndividually);
+        }
+    }
+    
+    /**
+     * Applies a batch of changes inside the current database transaction.
+     * 
+     * @param batch the changes to apply
+     */
+    private void apply(List<PendingWrite> batch) {
+        List<Transaction> inserts = new ArrayList<>();
+        Map<TransactionStatus, List<UUID>> updates = new EnumMap<>(TransactionStatus.class);
+        for (PendingWrite pending : batch) {
+            Transaction transaction = pending.transaction();
+            if (pending.kind() == Kind.INSERT) {
+                inserts.add(transaction);
+            } else {
+                updates.computeIfAbsent(transaction.getStatus(), status -> new ArrayList<>()).add(transaction.getId());
+            }
+        }
+        
+        // Flushed as one JDBC batch before the first UPDATE, or at commit
+        transactionRepository.saveAll(inserts);
+        updates.forEach((status, ids) -> {
+            if (transactionRepository.updatePendingStatus(status, ids) != ids.size()) {
+                // Rolls the batch back; the individual writes report the transactions decided meanwhile
+                throw new IllegalStateException("Transactions of the batch are no longer pending");
+            }
+        });
+        
+        for (PendingWrite pending : batch) {
+            if (pending.kind() == Kind.FINAL_STATUS) {
+                directWriter.recordFinalStatus(pending.transaction());
+            }
+        }
+    }
+    
+    /**
+     * Writes one change of a failed batch in its own database transaction.
+     * 
+     * @param pending the change to write
+     */
+    private void writeIndividually(PendingWrite pending) {
+        try {
+            Transaction transaction = pending.transaction();
+            if (pending.kind() == Kind.INSERT) {
+                // The failed batch assigned an identifier that was never committed
+                transaction.setId(null);
+                pending.result().complete(directWriter.insertPending(transaction));
+            } else {
+                pending.result().complete(directWriter.saveFinalStatus(transaction));
+            }
+        } catch (RuntimeException e) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+    
+    /**
+     * Kinds of transaction state changes.
+     */
+    private enum Kind {
+        INSERT,
+        FINAL_STATUS
+    }
+    
+    /**
+     * A state change waiting to be written together with the future completed once it is committed.
+     */
+    private record PendingWrite(Kind kind, Transaction transaction, CompletableFuture<Transaction> result) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.jfincore.repository;
+
+import com.jfincore.entity.AccountBalance;
+import com.jfincore.entity.AccountBalanceId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * Repository interface for AccountBalance entity.
+ * Provides atomic increments of the materialized per-account aggregates.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Repository
+public interface AccountBalanceRepository extends JpaRepository<AccountBalance, AccountBalanceId> {
+    
+    /**
+     * Atomically adds one transaction to an existing balance.
+     * 
+     * @param id the balance key
+     * @param amount the transaction amount
+     * @return the number of updated rows, zero if the balance does not exist yet
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AccountBalance b SET b.totalAmount = b.totalAmount + :amount, "
+            + "b.transactionCount = b.transactionCount + 1 WHERE b.id = :id")
+    int increment(@Param("id") AccountBalanceId id, @Param("amount") BigDecimal amount);
+    
+    /**
+     * Inserts the first transaction of an account and status as a new balance.
+     * Fails on the primary key if the balance was inserted concurrently.
+     * 
+     * @param accountId the account identifier
+     * @param status the transaction status name
+     * @param amount the transaction amount
+     * @return the number of inserted rows
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO account_balances (account_id, status, total_amount, transaction_count) "
+            + "VALUES (:accountId, :status, :amount, 1)", nativeQuery = true)
+    int insert(@Param("accountId") String accountId, @Param("status") String status, 
+               @Param("amount") BigDecimal amount);
+    
+    /**
+     * Finds a balance and locks it against concurrent increments.
+     * 
+     * @param id the balance key
+     * @return the locked balance, if it exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM AccountBalance b WHERE b.id = :id")
+    Optional<AccountBalance> findByIdForUpdate(@Param("id") AccountBalanceId id);
+    
+    /**
+     * Finds a slice of balance keys in a stable order.
+     * 
+     * @param pageable the slice to retrieve
+     * @return the slice of balance keys
+     */
+    @Query("SELECT b.id FROM AccountBalance b ORDER BY b.id.accountId, b.id.status")
+    Slice<AccountBalanceId> findIds(Pageable pageable);
+}
@@ -0,0 +1,16 @@
+package com.jfincore.repository;
+
+import com.jfincore.entity.AccountBalanceId;
+import com.jfincore.entity.ArchivedBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for the totals of archived transactions.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Repository
+public interface ArchivedBalanceRepository extends JpaRepository<ArchivedBalance, AccountBalanceId> {
+}
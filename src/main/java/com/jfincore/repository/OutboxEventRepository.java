@@ -0,0 +1,59 @@
+package com.jfincore.repository;
+
+import com.jfincore.entity.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for the transactional outbox.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    
+    /**
+     * Finds the oldest events not published yet, in insertion order.
+     * 
+     * @param limit the maximum number of events
+     * @return the unpublished events
+     */
+    List<OutboxEvent> findByStreamOffsetIsNullOrderByIdAsc(Limit limit);
+    
+    /**
+     * Finds published events following a stream offset, in stream order.
+     * 
+     * @param streamOffset the offset after which to read
+     * @param limit the maximum number of events
+     * @return the events after the offset
+     */
+    List<OutboxEvent> findByStreamOffsetGreaterThanOrderByStreamOffsetAsc(long streamOffset, Limit limit);
+    
+    /**
+     * Finds the offset of the last published event.
+     * 
+     * @return the highest stream offset, or empty if nothing was published yet
+     */
+    @Query("SELECT MAX(e.streamOffset) FROM OutboxEvent e")
+    Optional<Long> findMaxStreamOffset();
+    
+    /**
+     * Deletes published events that occurred before a given time.
+     * Unpublished events are kept whatever their age.
+     * 
+     * @param cutoff the oldest time to keep
+     * @return the number of deleted events
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.streamOffset IS NOT NULL AND e.occurredAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
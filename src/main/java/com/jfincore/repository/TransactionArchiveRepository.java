@@ -0,0 +1,41 @@
+package com.jfincore.repository;
+
+import com.jfincore.entity.TransactionArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for the index of archived transaction partitions.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Repository
+public interface TransactionArchiveRepository extends JpaRepository<TransactionArchive, String> {
+    
+    /**
+     * Finds the archives holding transactions of a time range, newest first.
+     * 
+     * @param from the inclusive lower bound of the range
+     * @param to the exclusive upper bound of the range
+     * @return the overlapping archives
+     */
+    @Query("SELECT a FROM TransactionArchive a "
+            + "WHERE a.rangeEnd > :from AND (a.rangeStart IS NULL OR a.rangeStart < :to) "
+            + "ORDER BY a.rangeEnd DESC")
+    List<TransactionArchive> findOverlapping(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    /**
+     * Finds the end of the archived history: transactions older than this are only in archives.
+     * 
+     * @return the highest archived upper bound, or empty if nothing was archived yet
+     */
+    @Query("SELECT MAX(a.rangeEnd) FROM TransactionArchive a")
+    Optional<LocalDateTime> findArchivedUntil();
+}
@@ -2,8 +2,12 @@ package com.jfincore.repository;
 
 import com.jfincore.entity.Transaction;
 import com.jfincore.entity.TransactionStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +16,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * Repository interface for Transaction entity.
@@ -24,6 +31,19 @@ import java.util.UUID;
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
     
+    /**
+     * JDBC fetch size used when streaming transactions
+     */
+    String STREAM_FETCH_SIZE = "500";
+    
+    /**
+     * Finds the transaction created for an idempotency key.
+     * 
+     * @param idempotencyKey the client-supplied idempotency key
+     * @return the transaction, if one was created for the key
+     */
+    Optional<Transaction> findByIdempotencyKey(String idempotencyKey);
+    
     /**
      * Finds all transactions for a specific account.
      * 
@@ -68,6 +88,41 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
     @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t WHERE t.accountId = :accountId AND t.status = :status")
     BigDecimal calculateTotalAmountByAccountIdAndStatus(@Param("accountId") String accountId, @Param("status") TransactionStatus status);
     
+    /**
+     * Counts the transactions of a specific account and status.
+     * 
+     * @param accountId the account identifier
+     * @param status the transaction status
+     * @return the number of matching transactions
+     */
+    long countByAccountIdAndStatus(String accountId, TransactionStatus status);
+    
+    /**
+     * Calculates the total amount for transactions of a specific account and status
+     * created at or after a given time.
+     * 
+     * @param accountId the account identifier
+     * @param status the transaction status
+     * @param since the oldest creation time to include
+     * @return the total amount or zero if no transactions found
+     */
+    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t "
+            + "WHERE t.accountId = :accountId AND t.status = :status AND t.timestamp >= :since")
+    BigDecimal calculateTotalAmountByAccountIdAndStatusSince(@Param("accountId") String accountId,
+                                                             @Param("status") TransactionStatus status,
+                                                             @Param("since") LocalDateTime since);
+    
+    /**
+     * Counts the transactions of a specific account and status created at or after a given time.
+     * 
+     * @param accountId the account identifier
+     * @param status the transaction status
+     * @param since the oldest creation time to include
+     * @return the number of matching transactions
+     */
+    long countByAccountIdAndStatusAndTimestampGreaterThanEqual(String accountId, TransactionStatus status,
+                                                              LocalDateTime since);
+    
     /**
      * Checks if an account exists in the system.
      * 
@@ -75,4 +130,170 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
      * @return true if the account has at least one transaction
      */
     boolean existsByAccountId(String accountId);
+    
+    /**
+     * Finds the first page of transactions for an account, newest first.
+     * 
+     * @param accountId the account identifier
+     * @param limit the maximum number of transactions to return
+     * @return the first page of transactions for the account
+     */
+    @Query("SELECT t FROM Transaction t WHERE t.accountId = :accountId ORDER BY t.timestamp DESC, t.id DESC")
+    List<Transaction> findFirstPageByAccountId(@Param("accountId") String accountId, Limit limit);
+    
+    /**
+     * Finds the page of transactions for an account that follows the given keyset position.
+     * 
+     * @param accountId the account identifier
+     * @param timestamp the timestamp of the last transaction of the previous page
+     * @param id the id of the last transaction of the previous page
+     * @param limit the maximum number of transactions to return
+     * @return the next page of transactions for the account
+     */
+    @Query("SELECT t FROM Transaction t WHERE t.accountId = :accountId "
+            + "AND (t.timestamp < :timestamp OR (t.timestamp = :timestamp AND t.id < :id)) "
+            + "ORDER BY t.timestamp DESC, t.id DESC")
+    List<Transaction> findPageByAccountIdAfter(@Param("accountId") String accountId,
+                                               @Param("timestamp") LocalDateTime timestamp,
+                                               @Param("id") UUID id,
+                                               Limit limit);
+    
+    /**
+     * Finds the first page of transactions with a specific status, newest first.
+     * 
+     * @param status the transaction status
+     * @param limit the maximum number of transactions to return
+     * @return the first page of transactions with the status
+     */
+    @Query("SELECT t FROM Transaction t WHERE t.status = :status ORDER BY t.timestamp DESC, t.id DESC")
+    List<Transaction> findFirstPageByStatus(@Param("status") TransactionStatus status, Limit limit);
+    
+    /**
+     * Finds the page of transactions with a specific status that follows the given keyset position.
+     * 
+     * @param status the transaction status
+     * @param timestamp the timestamp of the last transaction of the previous page
+     * @param id the id of the last transaction of the previous page
+     * @param limit the maximum number of transactions to return
+     * @return the next page of transactions with the status
+     */
+    @Query("SELECT t FROM Transaction t WHERE t.status = :status "
+            + "AND (t.timestamp < :timestamp OR (t.timestamp = :timestamp AND t.id < :id)) "
+            + "ORDER BY t.timestamp DESC, t.id DESC")
+    List<Transaction> findPageByStatusAfter(@Param("status") TransactionStatus status,
+                                            @Param("timestamp") LocalDateTime timestamp,
+                                            @Param("id") UUID id,
+                                            Limit limit);
+    
+    /**
+     * Finds the first page of all transactions, newest first.
+     * 
+     * @param limit the maximum number of transactions to return
+     * @return the first page of transactions
+     */
+    @Query("SELECT t FROM Transaction t ORDER BY t.timestamp DESC, t.id DESC")
+    List<Transaction> findFirstPage(Limit limit);
+    
+    /**
+     * Finds the page of all transactions that follows the given keyset position.
+     * 
+     * @param timestamp the timestamp of the last transaction of the previous page
+     * @param id the id of the last transaction of the previous page
+     * @param limit the maximum number of transactions to return
+     * @return the next page of transactions
+     */
+    @Query("SELECT t FROM Transaction t "
+            + "WHERE t.timestamp < :timestamp OR (t.timestamp = :timestamp AND t.id < :id) "
+            + "ORDER BY t.timestamp DESC, t.id DESC")
+    List<Transaction> findPageAfter(@Param("timestamp") LocalDateTime timestamp,
+                                    @Param("id") UUID id,
+                                    Limit limit);
+    
+    /**
+     * Finds the oldest transactions with a specific status created before a given time.
+     * 
+     * @param status the transaction status
+     * @param before the exclusive upper bound of the creation time
+     * @param limit the maximum number of transactions to return
+     * @return the matching transactions, oldest first
+     */
+    @Query("SELECT t FROM Transaction t WHERE t.status = :status AND t.timestamp < :before "
+            + "ORDER BY t.timestamp, t.id")
+    List<Transaction> findByStatusCreatedBefore(@Param("status") TransactionStatus status,
+                                                @Param("before") LocalDateTime before,
+                                                Limit limit);
+    
+    /**
+     * Streams all transactions for an account, newest first.
+     * Must be consumed inside a transaction and closed afterwards.
+     * 
+     * @param accountId the account identifier
+     * @return a stream of transactions for the account
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT t FROM Transaction t WHERE t.accountId = :accountId ORDER BY t.timestamp DESC, t.id DESC")
+    Stream<Transaction> streamByAccountId(@Param("accountId") String accountId);
+    
+    /**
+     * Streams all transactions with a specific status, newest first.
+     * Must be consumed inside a transaction and closed afterwards.
+     * 
+     * @param status the transaction status
+     * @return a stream of transactions with the status
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT t FROM Transaction t WHERE t.status = :status ORDER BY t.timestamp DESC, t.id DESC")
+    Stream<Transaction> streamByStatus(@Param("status") TransactionStatus status);
+    
+    /**
+     * Streams the transactions created within a time range, newest first.
+     * On a partitioned table only the partitions overlapping the range are read.
+     * Must be consumed inside a transaction and closed afterwards.
+     * 
+     * @param from the inclusive lower bound of the range
+     * @param to the exclusive upper bound of the range
+     * @return a stream of transactions within the range
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT t FROM Transaction t WHERE t.timestamp >= :from AND t.timestamp < :to "
+            + "ORDER BY t.timestamp DESC, t.id DESC")
+    Stream<Transaction> streamByTimestampRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    /**
+     * Streams the transactions with a specific status created at or after a given time, oldest first.
+     * Must be consumed inside a transaction and closed afterwards.
+     * 
+     * @param status the transaction status
+     * @param since the oldest creation time to include
+     * @return a stream of transactions with the status
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT t FROM Transaction t WHERE t.status = :status AND t.timestamp >= :since "
+            + "ORDER BY t.timestamp, t.id")
+    Stream<Transaction> streamByStatusSince(@Param("status") TransactionStatus status,
+                                            @Param("since") LocalDateTime since);
+    
+    /**
+     * Streams all transactions, newest first.
+     * Must be consumed inside a transaction and closed afterwards.
+     * 
+     * @return a stream of all transactions
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT t FROM Transaction t ORDER BY t.timestamp DESC, t.id DESC")
+    Stream<Transaction> streamAll();
+    
+    /**
+     * Sets the final status of several transactions with a single statement. Only
+     * transactions still in PENDING status are updated, so a transaction decided
+     * concurrently, by another instance for example, keeps its first decision.
+     * 
+     * @param status the final status
+     * @param ids the transaction identifiers
+     * @return the number of updated transactions
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Transaction t SET t.status = :status "
+            + "WHERE t.id IN :ids AND t.status = com.jfincore.entity.TransactionStatus.PENDING")
+    int updatePendingStatus(@Param("status") TransactionStatus status, @Param("ids") List<UUID> ids);
 }
\ No newline at end of file
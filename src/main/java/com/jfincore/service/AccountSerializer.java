@@ -0,0 +1,306 @@
+package com.jfincore.service;
+
+import com.jfincore.config.AsyncProperties;
+import com.jfincore.exception.CustomBusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Serializes work within one account while unrelated accounts run fully in parallel.
+ * 
+ * Each account with work in flight gets its own queue, created on first use and dropped
+ * once it is drained, so memory use follows the number of busy accounts. Work for the same
+ * account runs one at a time, in arrival order.
+ * 
+ * Background work is chained rather than blocked: it is handed to the executor only when
+ * it is its account's turn, and an account's queued background work then runs back to back
+ * on that one thread. A busy account therefore occupies at most one executor thread, and no
+ * executor thread ever waits for another account's work. Only callers that need the result
+ * anyway, such as request threads, wait for their turn, and only up to the wait timeout.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class AccountSerializer {
+    
+    private final ConcurrentHashMap<String, AccountQueue> queues = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Duration waitTimeout;
+    private final int maxWaiting;
+    private final Counter contendedCounter;
+    private final Timer waitTimer;
+    
+    /**
+     * Creates a new account serializer.
+     * 
+     * @param asyncProperties the async properties holding the wait timeout and queue capacity
+     * @param meterRegistry the registry for contention metrics
+     */
+    public AccountSerializer(AsyncProperties asyncProperties, MeterRegistry meterRegistry) {
+        this.waitTimeout = asyncProperties.getAccountLockTimeout();
+        this.maxWaiting = asyncProperties.getQueueCapacity();
+        this.contendedCounter = Counter.builder("jfincore.account.lock.contended")
+                .description("Account operations that had to wait for another operation on the same account")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("jfincore.account.lock.wait")
+                .description("Time contended account operations waited for their turn")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("jfincore.account.lock.waiting", waiting, AtomicInteger::get)
+                .description("Account operations currently queued behind another operation on the same account")
+                .register(meterRegistry);
+        Gauge.builder("jfincore.account.lock.active", queues, ConcurrentHashMap::size)
+                .description("Accounts with operations in flight")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Runs the given work on the calling thread once no other work for the same account
+     * is running. Fails without running the work if the turn does not come within the
+     * wait timeout.
+     * 
+     * @param accountId the account identifier
+     * @param work the work to run
+     * @param <T> the result type
+     * @return the result of the work
+     * @throws CustomBusinessException if the account stays busy for longer than the wait timeout
+     */
+    public <T> T execute(String accountId, Supplier<T> work) {
+        Turn turn = new Turn(System.nanoTime());
+        if (!enqueue(accountId, turn)) {
+            awaitTurn(accountId, turn);
+        }
+        
+        try {
+            return work.get();
+        } finally {
+            release(accountId);
+        }
+    }
+    
+    /**
+     * Queues the given work to run on the executor once no other work for the same
+     * account is running. No thread waits in the meantime.
+     * 
+     * @param accountId the account identifier
+     * @param work the work to run
+     * @param executor the executor running the work
+     * @throws TaskRejectedException if the executor refuses the work, or too much work is
+     *         already waiting for busy accounts; the work does not run then
+     */
+    public void submit(String accountId, Runnable work, Executor executor) {
+        Task task = new Task(work, executor, System.nanoTime());
+        if (enqueue(accountId, task)) {
+            try {
+                executor.execute(() -> drain(accountId, task));
+            } catch (RejectedExecutionException e) {
+                release(accountId);
+                throw e instanceof TaskRejectedException rejected
+                        ? rejected
+                        : new TaskRejectedException("Executor refused work for account " + accountId, e);
+            }
+        }
+    }
+    
+    /**
+     * Adds work to its account's queue.
+     * 
+     * @param accountId the account identifier
+     * @param entry the work to add
+     * @return true if the account was idle, so the caller runs the work right away
+     * @throws TaskRejectedException if background work would exceed the waiting capacity
+     */
+    private boolean enqueue(String accountId, Entry entry) {
+        boolean[] idle = new boolean[1];
+        queues.compute(accountId, (id, queue) -> {
+            if (queue == null) {
+                idle[0] = true;
+                return new AccountQueue();
+            }
+            if (entry instanceof Task && waiting.get() >= maxWaiting) {
+                throw new TaskRejectedException("Too many transactions waiting for busy accounts");
+            }
+            queue.entries.addLast(entry);
+            waiting.incrementAndGet();
+            return queue;
+        });
+        
+        if (!idle[0]) {
+            contendedCounter.increment();
+        }
+        return idle[0];
+    }
+    
+    /**
+     * Hands the turn to the next queued work of an account, or drops the account's queue
+     * if there is none. A waiting caller is woken up; background work is returned to be
+     * run by the caller.
+     * 
+     * @param accountId the account identifier
+     * @return the next background work to run, or null
+     */
+    private Task next(String accountId) {
+        Entry[] next = new Entry[1];
+        queues.compute(accountId, (id, queue) -> {
+            next[0] = queue.entries.pollFirst();
+            if (next[0] == null) {
+                return null;
+            }
+            waiting.decrementAndGet();
+            if (next[0] instanceof Turn turn) {
+                turn.granted().complete(null);
+            }
+            return queue;
+        });
+        
+        if (next[0] == null) {
+            return null;
+        }
+        waitTimer.record(System.nanoTime() - next[0].enqueuedAt(), TimeUnit.NANOSECONDS);
+        return next[0] instanceof Task task ? task : null;
+    }
+    
+    /**
+     * Passes an account's turn on after the calling thread's work. Background work that is
+     * next goes to its executor; if the executor refuses it, it runs on the calling thread
+     * so that the account's queue never stalls.
+     * 
+     * @param accountId the account identifier
+     */
+    private void release(String accountId) {
+        Task task = next(accountId);
+        if (task == null) {
+            return;
+        }
+        try {
+            task.executor().execute(() -> drain(accountId, task));
+        } catch (RejectedExecutionException e) {
+            log.debug("Executor refused queued work for account {}, running it on the releasing thread", accountId);
+            drain(accountId, task);
+        }
+    }
+    
+    /**
+     * Runs an account's background work, and the background work queued behind it,
+     * until the queue is drained or the turn passes to a waiting caller.
+     * 
+     * @param accountId the account identifier
+     * @param first the first work to run
+     */
+    private void drain(String accountId, Task first) {
+        Task task = first;
+        while (task != null) {
+            try {
+                task.work().run();
+            } catch (RuntimeException e) {
+                log.error("Queued work for account {} failed", accountId, e);
+            } catch (Error e) {
+                release(accountId);
+                throw e;
+            }
+            task = next(accountId);
+        }
+    }
+    
+    /**
+     * Waits until a queued caller is granted its account's turn.
+     * 
+     * @param accountId the account identifier
+     * @param turn the queued caller
+     * @throws CustomBusinessException if the turn is not granted within the wait timeout
+     */
+    private void awaitTurn(String accountId, Turn turn) {
+        try {
+            turn.granted().get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (withdraw(accountId, turn)) {
+                log.warn("Account {} busy for more than {}", accountId, waitTimeout);
+                throw new CustomBusinessException(
+                        "Account is busy processing other transactions. Please retry later.",
+                        "ACCOUNT_BUSY");
+            }
+            // Granted while timing out
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!withdraw(accountId, turn)) {
+                release(accountId);
+            }
+            throw new CustomBusinessException(
+                    "Transaction processing was interrupted",
+                    "PROCESSING_INTERRUPTED", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Account turn failed", e.getCause());
+        }
+    }
+    
+    /**
+     * Removes a caller from its account's queue unless it has been granted the turn.
+     * 
+     * @param accountId the account identifier
+     * @param turn the queued caller
+     * @return true if the caller was removed, false if it holds the turn
+     */
+    private boolean withdraw(String accountId, Turn turn) {
+        boolean[] removed = new boolean[1];
+        queues.computeIfPresent(accountId, (id, queue) -> {
+            removed[0] = queue.entries.remove(turn);
+            return queue;
+        });
+        if (removed[0]) {
+            waiting.decrementAndGet();
+        }
+        return removed[0];
+    }
+    
+    /**
+     * Work queued behind another operation on the same account.
+     */
+    private interface Entry {
+        
+        long enqueuedAt();
+    }
+    
+    /**
+     * A caller waiting on its own thread for its turn.
+     */
+    private record Turn(long enqueuedAt, CompletableFuture<Void> granted) implements Entry {
+        
+        Turn(long enqueuedAt) {
+            this(enqueuedAt, new CompletableFuture<>());
+        }
+    }
+    
+    /**
+     * Background work run on its executor when its turn comes.
+     */
+    private record Task(Runnable work, Executor executor, long enqueuedAt) implements Entry {
+    }
+    
+    /**
+     * Work waiting behind the operation running for one account. Only changed inside
+     * the map's atomic compute operations.
+     */
+    private static final class AccountQueue {
+        
+        private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+    }
+}
@@ -0,0 +1,36 @@
+package com.jfincore.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job that periodically verifies the materialized account balances
+ * against the raw transaction totals.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "jfincore.balance.reconciliation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BalanceReconciler {
+    
+    private final BalanceService balanceService;
+    
+    /**
+     * Runs the balance reconciliation at the configured interval (ISO-8601 duration).
+     */
+    @Scheduled(initialDelayString = "${jfincore.balance.reconciliation.interval:PT5M}",
+               fixedDelayString = "${jfincore.balance.reconciliation.interval:PT5M}")
+    public void reconcile() {
+        try {
+            balanceService.reconcileBalances();
+        } catch (RuntimeException e) {
+            log.error("Balance reconciliation failed", e);
+        }
+    }
+}
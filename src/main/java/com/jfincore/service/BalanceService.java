@@ -0,0 +1,43 @@
+package com.jfincore.service;
+
+import com.jfincore.dto.AccountBalanceDTO;
+import com.jfincore.entity.Transaction;
+import com.jfincore.entity.TransactionStatus;
+
+/**
+ * Service interface for per-account balance operations.
+ * Maintains materialized (account, status) aggregates of final transactions
+ * and reconciles them against the transaction history.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+public interface BalanceService {
+    
+    /**
+     * Adds a transaction that has just reached its final status to the account balance.
+     * Must be called in the same database transaction that persists the final status.
+     * 
+     * @param transaction the transaction in APPROVED or REJECTED status
+     */
+    void recordFinalStatus(Transaction transaction);
+    
+    /**
+     * Retrieves the balance of an account's transactions in a given status.
+     * APPROVED and REJECTED balances are read from the materialized aggregate;
+     * PENDING balances are computed from the transactions still pending.
+     * 
+     * @param accountId the account identifier
+     * @param status the transaction status
+     * @return the account balance for the status
+     */
+    AccountBalanceDTO getBalance(String accountId, TransactionStatus status);
+    
+    /**
+     * Verifies every materialized balance against the raw transaction totals
+     * and repairs the ones that drifted.
+     * 
+     * @return the number of repaired balances
+     */
+    int reconcileBalances();
+}
@@ -0,0 +1,186 @@
+package com.jfincore.service;
+
+import com.jfincore.dto.AccountBalanceDTO;
+import com.jfincore.entity.AccountBalance;
+import com.jfincore.entity.AccountBalanceId;
+import com.jfincore.entity.ArchivedBalance;
+import com.jfincore.entity.Transaction;
+import com.jfincore.entity.TransactionStatus;
+import com.jfincore.repository.AccountBalanceRepository;
+import com.jfincore.repository.ArchivedBalanceRepository;
+import com.jfincore.repository.TransactionArchiveRepository;
+import com.jfincore.repository.TransactionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Implementation of BalanceService interface.
+ * Balances are incremented with a single atomic UPDATE; the first transaction of an
+ * account and status inserts the row instead. The reconciliation locks each balance
+ * row while comparing it with the raw SUM, so concurrent increments cannot be
+ * mistaken for drift. Once transactions are archived, the raw totals are those of the
+ * transactions newer than the archived history plus the archived totals.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Service
+@Slf4j
+public class BalanceServiceImpl implements BalanceService {
+    
+    private static final int RECONCILIATION_PAGE_SIZE = 500;
+    
+    private final AccountBalanceRepository accountBalanceRepository;
+    private final TransactionRepository transactionRepository;
+    private final ArchivedBalanceRepository archivedBalanceRepository;
+    private final TransactionArchiveRepository transactionArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter repairedCounter;
+    
+    /**
+     * Creates a new balance service.
+     * 
+     * @param accountBalanceRepository the balance repository
+     * @param transactionRepository the transaction repository
+     * @param archivedBalanceRepository the repository of archived transaction totals
+     * @param transactionArchiveRepository the repository of archived partitions
+     * @param transactionTemplate the template for reconciliation transactions
+     * @param meterRegistry the meter registry for reconciliation metrics
+     */
+    public BalanceServiceImpl(AccountBalanceRepository accountBalanceRepository,
+                              TransactionRepository transactionRepository,
+                              ArchivedBalanceRepository archivedBalanceRepository,
+                              TransactionArchiveRepository transactionArchiveRepository,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry) {
+        this.accountBalanceRepository = accountBalanceRepository;
+        this.transactionRepository = transactionRepository;
+        this.archivedBalanceRepository = archivedBalanceRepository;
+        this.transactionArchiveRepository = transactionArchiveRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.repairedCounter = Counter.builder("jfincore.balance.reconciliation.repaired")
+                .description("Materialized balances that drifted from the transaction history")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordFinalStatus(Transaction transaction) {
+        AccountBalanceId id = new AccountBalanceId(transaction.getAccountId(), transaction.getStatus());
+        
+        if (accountBalanceRepository.increment(id, transaction.getAmount()) == 0) {
+            // First final transaction of this account and status; a plain INSERT (not a merge)
+            // makes a concurrent insert of the same row fail on the primary key instead of
+            // overwriting it, and the caller retries with an increment
+            accountBalanceRepository.insert(id.getAccountId(), id.getStatus().name(), transaction.getAmount());
+        }
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AccountBalanceDTO getBalance(String accountId, TransactionStatus status) {
+        log.info("Retrieving {} balance for account: {}", status, accountId);
+        
+        if (status == TransactionStatus.PENDING) {
+            return new AccountBalanceDTO(accountId, status,
+                    transactionRepository.calculateTotalAmountByAccountIdAndStatus(accountId, status),
+                    transactionRepository.countByAccountIdAndStatus(accountId, status));
+        }
+        
+        return accountBalanceRepository.findById(new AccountBalanceId(accountId, status))
+                .map(balance -> new AccountBalanceDTO(accountId, status, 
+                        balance.getTotalAmount(), balance.getTransactionCount()))
+                .orElseGet(() -> new AccountBalanceDTO(accountId, status, BigDecimal.ZERO, 0));
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int reconcileBalances() {
+        int repaired = 0;
+        int checked = 0;
+        Pageable pageable = PageRequest.of(0, RECONCILIATION_PAGE_SIZE);
+        Slice<AccountBalanceId> ids;
+        
+        do {
+            ids = accountBalanceRepository.findIds(pageable);
+            for (AccountBalanceId id : ids) {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> reconcile(id)))) {
+                    repaired++;
+                }
+                checked++;
+            }
+            pageable = ids.nextPageable();
+        } while (ids.hasNext());
+        
+        log.info("Balance reconciliation completed: {} checked, {} repaired", checked, repaired);
+        
+        return repaired;
+    }
+    
+    /**
+     * Compares one locked balance with the raw transaction totals and repairs it on mismatch.
+     * 
+     * @param id the balance key
+     * @return true if the balance was repaired
+     */
+    private boolean reconcile(AccountBalanceId id) {
+        AccountBalance balance = accountBalanceRepository.findByIdForUpdate(id).orElse(null);
+        if (balance == null) {
+            return false;
+        }
+        
+        // Read in the same snapshot as the archived totals, which are committed together with it
+        LocalDateTime archivedUntil = transactionArchiveRepository.findArchivedUntil().orElse(null);
+        BigDecimal expectedAmount;
+        long expectedCount;
+        if (archivedUntil == null) {
+            expectedAmount = transactionRepository
+                    .calculateTotalAmountByAccountIdAndStatus(id.getAccountId(), id.getStatus());
+            expectedCount = transactionRepository
+                    .countByAccountIdAndStatus(id.getAccountId(), id.getStatus());
+        } else {
+            // Rows of a partition being archived are already counted in the archived totals
+            ArchivedBalance archived = archivedBalanceRepository.findById(id)
+                    .orElseGet(() -> new ArchivedBalance(id, BigDecimal.ZERO, 0));
+            expectedAmount = transactionRepository
+                    .calculateTotalAmountByAccountIdAndStatusSince(id.getAccountId(), id.getStatus(), archivedUntil)
+                    .add(archived.getTotalAmount());
+            expectedCount = transactionRepository
+                    .countByAccountIdAndStatusAndTimestampGreaterThanEqual(
+                            id.getAccountId(), id.getStatus(), archivedUntil)
+                    + archived.getTransactionCount();
+        }
+        
+        if (balance.getTotalAmount().compareTo(expectedAmount) == 0 && balance.getTransactionCount() == expectedCount) {
+            return false;
+        }
+        
+        log.warn("Balance drift for account: {}, status: {}, materialized: {} ({}), actual: {} ({})", 
+                id.getAccountId(), id.getStatus(), balance.getTotalAmount(), balance.getTransactionCount(),
+                expectedAmount, expectedCount);
+        
+        balance.setTotalAmount(expectedAmount);
+        balance.setTransactionCount(expectedCount);
+        repairedCounter.increment();
+        return true;
+    }
+}
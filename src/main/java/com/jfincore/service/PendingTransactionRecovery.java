@@ -0,0 +1,80 @@
+package com.jfincore.service;
+
+import com.jfincore.config.AsyncProperties;
+import com.jfincore.config.FraudCheckConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Background job that queues a new fraud decision for transactions left PENDING.
+ * Transactions accepted for asynchronous processing are only queued in memory, so a
+ * restart would otherwise leave them PENDING for good, as would a failed decision or
+ * the pending-review fallback. The first sweep runs shortly after startup.
+ * 
+ * Sweeps are skipped while the legacy fraud circuit breaker is not closed, since the
+ * re-driven checks would only fall back again, and an extra sweep runs as soon as it
+ * closes, so that transactions left for review are decided without delay.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "jfincore.async.recovery", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PendingTransactionRecovery {
+    
+    private final TransactionService transactionService;
+    private final AsyncProperties asyncProperties;
+    private final CircuitBreaker circuitBreaker;
+    
+    /**
+     * Creates the pending transaction recovery.
+     * 
+     * @param transactionService the transaction service
+     * @param asyncProperties the async properties holding the recovery settings
+     * @param circuitBreakerRegistry the registry holding the legacy fraud circuit breaker
+     * @param taskScheduler the scheduler running the sweep once the circuit breaker closes
+     */
+    public PendingTransactionRecovery(TransactionService transactionService, AsyncProperties asyncProperties,
+                                      CircuitBreakerRegistry circuitBreakerRegistry, TaskScheduler taskScheduler) {
+        this.transactionService = transactionService;
+        this.asyncProperties = asyncProperties;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(FraudCheckConfig.LEGACY_FRAUD_INSTANCE);
+        
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            if (event.getStateTransition().getToState() == CircuitBreaker.State.CLOSED) {
+                taskScheduler.schedule(this::recoverPendingTransactions, Instant.now());
+            }
+        });
+    }
+    
+    /**
+     * Recovers the PENDING transactions older than the minimum age at the configured interval.
+     */
+    @Scheduled(initialDelayString = "${jfincore.async.recovery.initial-delay:PT10S}",
+               fixedDelayString = "${jfincore.async.recovery.interval:PT1M}")
+    public synchronized void recoverPendingTransactions() {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        if (state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.HALF_OPEN 
+                || state == CircuitBreaker.State.FORCED_OPEN) {
+            log.debug("Pending transaction recovery skipped, fraud circuit breaker is {}", state);
+            return;
+        }
+        
+        AsyncProperties.Recovery recovery = asyncProperties.getRecovery();
+        try {
+            transactionService.recoverPendingTransactions(
+                    LocalDateTime.now().minus(recovery.getMinimumAge()), recovery.getBatchSize());
+        } catch (RuntimeException e) {
+            log.error("Pending transaction recovery failed", e);
+        }
+    }
+}
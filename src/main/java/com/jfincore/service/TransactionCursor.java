@@ -0,0 +1,62 @@
+package com.jfincore.service;
+
+import com.jfincore.entity.Transaction;
+import com.jfincore.exception.CustomBusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position of a transaction in the (timestamp, id) listing order.
+ * Encoded as an opaque URL-safe string so clients cannot depend on its contents.
+ * 
+ * @param timestamp the creation timestamp of the last transaction returned
+ * @param id the identifier of the last transaction returned
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+record TransactionCursor(LocalDateTime timestamp, UUID id) {
+    
+    private static final String SEPARATOR = "|";
+    
+    /**
+     * Creates the cursor positioned at the given transaction.
+     * 
+     * @param transaction the last transaction of a page
+     * @return the cursor
+     */
+    static TransactionCursor of(Transaction transaction) {
+        return new TransactionCursor(transaction.getTimestamp(), transaction.getId());
+    }
+    
+    /**
+     * Decodes a cursor received from a client.
+     * 
+     * @param cursor the encoded cursor
+     * @return the decoded cursor
+     * @throws CustomBusinessException if the cursor is malformed
+     */
+    static TransactionCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            return new TransactionCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomBusinessException("Invalid pagination cursor", "INVALID_CURSOR", e);
+        }
+    }
+    
+    /**
+     * Encodes this cursor for clients.
+     * 
+     * @return the encoded cursor
+     */
+    String encode() {
+        String raw = timestamp + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
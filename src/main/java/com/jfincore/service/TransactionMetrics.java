@@ -0,0 +1,168 @@
+package com.jfincore.service;
+
+import com.jfincore.exception.CustomBusinessException;
+import com.jfincore.fraud.FraudVerdict;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer instrumentation of transaction processing: one timer per processing stage,
+ * counters for fraud decisions and business errors, and a gauge of transactions in flight.
+ * 
+ * Tags only take values from fixed sets (stages, decision sources, error codes defined in
+ * code), never request data such as account ids, so cardinality stays bounded. Histograms
+ * and SLO buckets are configured through the {@code management.metrics.distribution} properties.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Component
+public class TransactionMetrics {
+    
+    private final MeterRegistry meterRegistry;
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    
+    /**
+     * Creates the transaction metrics.
+     * 
+     * @param meterRegistry the meter registry
+     */
+    public TransactionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("jfincore.transaction.stage")
+                    .description("Time spent in each stage of transaction processing")
+                    .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        Gauge.builder("jfincore.transaction.in.flight", inFlight, AtomicInteger::get)
+                .description("Transaction processing calls currently executing")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Times one stage of transaction processing.
+     * 
+     * @param stage the stage
+     * @param work the work of the stage
+     * @param <T> the result type
+     * @return the result of the work
+     */
+    public <T> T time(Stage stage, Supplier<T> work) {
+        return stageTimers.get(stage).record(work);
+    }
+    
+    /**
+     * Times one stage of transaction processing.
+     * 
+     * @param stage the stage
+     * @param work the work of the stage
+     */
+    public void time(Stage stage, Runnable work) {
+        stageTimers.get(stage).record(work);
+    }
+    
+    /**
+     * Runs a transaction processing call, counting it as in flight and counting
+     * the business errors it ends with by error code.
+     * 
+     * @param work the processing call
+     * @param <T> the result type
+     * @return the result of the call
+     */
+    public <T> T track(Supplier<T> work) {
+        inFlight.incrementAndGet();
+        try {
+            return work.get();
+        } catch (CustomBusinessException e) {
+            recordError(e);
+            throw e;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+    
+    /**
+     * Counts a business error by its error code.
+     * 
+     * @param exception the business exception
+     */
+    public void recordError(CustomBusinessException exception) {
+        meterRegistry.counter("jfincore.transaction.errors", 
+                "error_code", exception.getErrorCode() != null ? exception.getErrorCode() : "NONE")
+                .increment();
+    }
+    
+    /**
+     * Counts a fraud decision by outcome and by the component that decided it.
+     * 
+     * @param verdict the fraud verdict
+     * @param source the component that decided
+     */
+    public void recordDecision(FraudVerdict verdict, DecisionSource source) {
+        String outcome = switch (verdict) {
+            case APPROVE -> "approved";
+            case REJECT -> "rejected";
+            case REVIEW -> "pending_review";
+        };
+        meterRegistry.counter("jfincore.transaction.decisions", 
+                "outcome", outcome, 
+                "reason", source.name().toLowerCase(Locale.ROOT))
+                .increment();
+    }
+    
+    /**
+     * Stages of transaction processing.
+     */
+    public enum Stage {
+        /**
+         * Business rule validation of the request
+         */
+        VALIDATION,
+        
+        /**
+         * First save, persisting the transaction in PENDING status
+         */
+        INSERT,
+        
+        /**
+         * Local velocity rules and, when they cannot decide, the legacy fraud check
+         */
+        FRAUD_CHECK,
+        
+        /**
+         * Second save, persisting the final status and the account balance
+         */
+        SAVE,
+        
+        /**
+         * Mapping of the entity to the response DTO
+         */
+        MAPPING
+    }
+    
+    /**
+     * Components that decide on a transaction.
+     */
+    public enum DecisionSource {
+        /**
+         * Decided by the local velocity rules
+         */
+        VELOCITY_RULES,
+        
+        /**
+         * Decided by the legacy fraud checker, or its fallback policy
+         */
+        FRAUD_CHECK
+    }
+}
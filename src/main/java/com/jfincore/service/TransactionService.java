@@ -1,11 +1,15 @@
 package com.jfincore.service;
 
+import com.jfincore.dto.TransactionBatchItemResultDTO;
+import com.jfincore.dto.TransactionPageDTO;
 import com.jfincore.dto.TransactionRequestDTO;
 import com.jfincore.dto.TransactionResponseDTO;
 import com.jfincore.entity.TransactionStatus;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service interface for transaction processing operations.
@@ -28,6 +32,57 @@ public interface TransactionService {
      */
     TransactionResponseDTO processTransaction(TransactionRequestDTO requestDTO);
     
+    /**
+     * Processes a new transaction request identified by a client-supplied idempotency key.
+     * A request repeating a known key returns the original transaction, or waits for it
+     * while it is still being processed, without running the fraud check again.
+     * 
+     * @param requestDTO the transaction request containing account and amount information
+     * @param idempotencyKey the idempotency key, or null to always create a new transaction
+     * @return the processed transaction response
+     * @throws com.jfincore.exception.CustomBusinessException if business rules are violated
+     *         or the key was already used for a different request
+     */
+    TransactionResponseDTO processTransaction(TransactionRequestDTO requestDTO, String idempotencyKey);
+
+    /**
+     * Accepts a new transaction request for asynchronous processing.
+     * The transaction is persisted with PENDING status and returned immediately,
+     * while the fraud check runs in the background and updates the status
+     * to APPROVED or REJECTED.
+     *
+     * @param requestDTO the transaction request containing account and amount information
+     * @return the accepted transaction response in PENDING status
+     * @throws com.jfincore.exception.CustomBusinessException if business rules are violated
+     * @throws org.springframework.core.task.TaskRejectedException if the processing queue is full
+     */
+    TransactionResponseDTO submitTransaction(TransactionRequestDTO requestDTO);
+    
+    /**
+     * Accepts a new transaction request identified by a client-supplied idempotency key
+     * for asynchronous processing. A request repeating a known key returns the originally
+     * accepted transaction without submitting it again.
+     * 
+     * @param requestDTO the transaction request containing account and amount information
+     * @param idempotencyKey the idempotency key, or null to always create a new transaction
+     * @return the accepted transaction response
+     * @throws com.jfincore.exception.CustomBusinessException if business rules are violated
+     *         or the key was already used for a different request
+     * @throws org.springframework.core.task.TaskRejectedException if the processing queue is full
+     */
+    TransactionResponseDTO submitTransaction(TransactionRequestDTO requestDTO, String idempotencyKey);
+
+    /**
+     * Accepts a batch of transaction requests for asynchronous processing.
+     * Each item is validated independently; valid items are persisted in PENDING status
+     * using JDBC batch inserts and their fraud checks run in the background.
+     *
+     * @param requestDTOs the transaction requests
+     * @return one result per submitted item, in submission order
+     * @throws com.jfincore.exception.CustomBusinessException if the batch is empty or too large
+     */
+    List<TransactionBatchItemResultDTO> submitTransactions(List<TransactionRequestDTO> requestDTOs);
+
     /**
      * Retrieves a transaction by its unique identifier.
      * 
@@ -38,28 +93,96 @@ public interface TransactionService {
     TransactionResponseDTO getTransactionById(UUID transactionId);
     
     /**
-     * Retrieves all transactions for a specific account.
-     * Results are ordered by timestamp in descending order (newest first).
+     * Retrieves a page of transactions for a specific account.
+     * Results are ordered by timestamp in descending order (newest first),
+     * with the transaction id as tie-breaker.
      * 
      * @param accountId the account identifier
-     * @return list of transactions for the account
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the requested page size, or null for the default; capped at the maximum page size
+     * @return page of transactions for the account
+     * @throws com.jfincore.exception.CustomBusinessException if the cursor or page size is invalid
      */
-    List<TransactionResponseDTO> getTransactionsByAccountId(String accountId);
+    TransactionPageDTO getTransactionsByAccountId(String accountId, String cursor, Integer limit);
     
     /**
-     * Retrieves all transactions with a specific status.
-     * Results are ordered by timestamp in descending order (newest first).
+     * Retrieves a page of transactions with a specific status.
+     * Results are ordered by timestamp in descending order (newest first),
+     * with the transaction id as tie-breaker.
      * 
      * @param status the transaction status to filter by
-     * @return list of transactions with the specified status
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the requested page size, or null for the default; capped at the maximum page size
+     * @return page of transactions with the specified status
+     * @throws com.jfincore.exception.CustomBusinessException if the cursor or page size is invalid
+     */
+    TransactionPageDTO getTransactionsByStatus(TransactionStatus status, String cursor, Integer limit);
+    
+    /**
+     * Retrieves a page of all transactions in the system.
+     * Results are ordered by timestamp in descending order (newest first),
+     * with the transaction id as tie-breaker.
+     * 
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the requested page size, or null for the default; capped at the maximum page size
+     * @return page of all transactions
+     * @throws com.jfincore.exception.CustomBusinessException if the cursor or page size is invalid
+     */
+    TransactionPageDTO getAllTransactions(String cursor, Integer limit);
+    
+    /**
+     * Streams all transactions for a specific account, newest first, in constant memory.
+     * 
+     * @param accountId the account identifier
+     * @param consumer receives each transaction in order
+     */
+    void streamTransactionsByAccountId(String accountId, Consumer<TransactionResponseDTO> consumer);
+    
+    /**
+     * Streams all transactions with a specific status, newest first, in constant memory.
+     * 
+     * @param status the transaction status to filter by
+     * @param consumer receives each transaction in order
+     */
+    void streamTransactionsByStatus(TransactionStatus status, Consumer<TransactionResponseDTO> consumer);
+    
+    /**
+     * Streams all transactions in the system, newest first, in constant memory.
+     * 
+     * @param consumer receives each transaction in order
+     */
+    void streamAllTransactions(Consumer<TransactionResponseDTO> consumer);
+    
+    /**
+     * Checks a time range for {@link #streamTransactionsBetween}. Called before a streamed
+     * response is started, so that an invalid range is still reported as an error response.
+     * 
+     * @param from the inclusive lower bound of the range
+     * @param to the exclusive upper bound of the range
+     * @throws CustomBusinessException if a bound is missing or the range is empty
+     */
+    void validateTimeRange(LocalDateTime from, LocalDateTime to);
+    
+    /**
+     * Streams the transactions created within a time range, newest first, in constant memory.
+     * The part of the range older than the archived history is read from the archive files.
+     * 
+     * @param from the inclusive lower bound of the range
+     * @param to the exclusive upper bound of the range
+     * @param consumer receives each transaction in order
+     * @throws CustomBusinessException if a bound is missing or the range is empty
      */
-    List<TransactionResponseDTO> getTransactionsByStatus(TransactionStatus status);
+    void streamTransactionsBetween(LocalDateTime from, LocalDateTime to, Consumer<TransactionResponseDTO> consumer);
     
     /**
-     * Retrieves all transactions in the system.
-     * Results are ordered by timestamp in descending order (newest first).
+     * Queues a new fraud decision for transactions left PENDING, such as transactions
+     * accepted for asynchronous processing before a restart, or whose decision failed.
+     * Transactions this instance left PENDING for review come first, whatever their age.
+     * A queued transaction is decided in its account's turn, and only if still PENDING then.
      * 
-     * @return list of all transactions
+     * @param createdBefore only transactions created before this time are recovered
+     * @param limit the maximum number of transactions to queue
+     * @return the number of transactions queued
      */
-    List<TransactionResponseDTO> getAllTransactions();
-}
\ No newline at end of file
+    int recoverPendingTransactions(LocalDateTime createdBefore, int limit);
+}
@@ -1,95 +1,375 @@
 package com.jfincore.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.jfincore.archive.TransactionArchiveReader;
+import com.jfincore.config.AsyncProperties;
+import com.jfincore.datasource.ReadConsistency;
+import com.jfincore.dto.TransactionBatchItemResultDTO;
+import com.jfincore.dto.TransactionPageDTO;
 import com.jfincore.dto.TransactionRequestDTO;
 import com.jfincore.dto.TransactionResponseDTO;
 import com.jfincore.entity.Transaction;
 import com.jfincore.entity.TransactionStatus;
 import com.jfincore.exception.CustomBusinessException;
+import com.jfincore.fraud.FraudChecker;
+import com.jfincore.fraud.FraudVerdict;
+import com.jfincore.fraud.VelocityRulesEngine;
 import com.jfincore.mapper.TransactionMapper;
+import com.jfincore.persistence.TransactionWriter;
+import com.jfincore.repository.TransactionArchiveRepository;
 import com.jfincore.repository.TransactionRepository;
+import com.jfincore.service.TransactionMetrics.DecisionSource;
+import com.jfincore.service.TransactionMetrics.Stage;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of TransactionService interface.
  * Handles all business logic related to transaction processing including
  * fraud detection simulation and status management.
  * 
+ * Write operations are not wrapped in a method-level transaction. Instead the
+ * PENDING insert and the final status update are each committed on their own by the
+ * {@link TransactionWriter}, so no database connection is checked out during the fraud check.
+ * 
+ * Requests carrying an idempotency key are first deduplicated in memory, where
+ * concurrent duplicates attach to the execution already in flight, and then
+ * through the unique key column, which also catches duplicates across instances.
+ * 
+ * Fraud decisions of one account run one at a time through the {@link AccountSerializer},
+ * so per-account checks always see the effect of earlier transactions of the account.
+ * 
+ * With a read replica, reads of a transaction or account written moments ago, and the
+ * idempotency lookups deciding about a write, are served by the primary.
+ * 
+ * Every final status is recorded in the transactional outbox in the same transaction
+ * as the status update, from where it is published to downstream consumers.
+ * 
+ * Each processing stage is timed through {@link TransactionMetrics}.
+ * 
  * @author J-FinCore Team
  * @version 1.0
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class TransactionServiceImpl implements TransactionService {
     
     private final TransactionRepository transactionRepository;
     private final TransactionMapper transactionMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final VelocityRulesEngine velocityRulesEngine;
+    private final FraudChecker fraudChecker;
+    private final TaskExecutor fraudCheckExecutor;
+    private final AsyncProperties asyncProperties;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final Cache<UUID, TransactionResponseDTO> transactionCache;
+    private final TransactionWriter transactionWriter;
+    private final ReadConsistency readConsistency;
+    private final AccountSerializer accountSerializer;
+    private final TransactionMetrics transactionMetrics;
+    private final Cache<String, CompletableFuture<TransactionResponseDTO>> idempotencyCache;
+    private final TransactionArchiveRepository transactionArchiveRepository;
+    private final ObjectProvider<TransactionArchiveReader> transactionArchiveReader;
+    
+    // Account of each transaction this instance left PENDING for review
+    private final Map<UUID, String> awaitingReview = new ConcurrentHashMap<>();
     
     // Business rule constants
     private static final BigDecimal MAX_TRANSACTION_AMOUNT = new BigDecimal("10000.00");
-    private static final BigDecimal SUSPICIOUS_AMOUNT_THRESHOLD = new BigDecimal("5000.00");
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+    private static final String ALREADY_DECIDED = "TRANSACTION_ALREADY_DECIDED";
+    
+    // Listing constants
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
     
     /**
      * {@inheritDoc}
      */
     @Override
     public TransactionResponseDTO processTransaction(TransactionRequestDTO requestDTO) {
+        return processTransaction(requestDTO, null);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TransactionResponseDTO processTransaction(TransactionRequestDTO requestDTO, String idempotencyKey) {
+        return transactionMetrics.track(() -> executeIdempotently(idempotencyKey, requestDTO, 
+                () -> processNewTransaction(requestDTO, idempotencyKey)));
+    }
+    
+    /**
+     * Runs the complete processing workflow for a request not seen before.
+     * 
+     * @param requestDTO the transaction request
+     * @param idempotencyKey the idempotency key, possibly null
+     * @return the processed transaction response
+     */
+    private TransactionResponseDTO processNewTransaction(TransactionRequestDTO requestDTO, String idempotencyKey) {
         log.info("Starting transaction processing for account: {}, amount: {}", 
                 requestDTO.getAccountId(), requestDTO.getAmount());
         
         // Validate business rules
-        validateTransactionRules(requestDTO);
+        transactionMetrics.time(Stage.VALIDATION, () -> validateTransactionRules(requestDTO));
         
-        // Create and persist transaction entity
-        Transaction transaction = transactionMapper.toEntity(requestDTO);
-        transaction = transactionRepository.save(transaction);
+        // The account's turn is taken before the insert, so a request failing on a busy
+        // account leaves no PENDING transaction behind
+        return accountSerializer.execute(requestDTO.getAccountId(), () -> {
+            // Create and persist transaction entity
+            Transaction transaction;
+            try {
+                transaction = transactionMetrics.time(Stage.INSERT, 
+                        () -> insertPendingTransaction(requestDTO, idempotencyKey));
+            } catch (DataIntegrityViolationException e) {
+                if (idempotencyKey == null) {
+                    throw e;
+                }
+                // Created concurrently for the same key, e.g. by another instance
+                return findIdempotentTransaction(idempotencyKey, requestDTO).orElseThrow(() -> e);
+            }
+            
+            log.info("Transaction created with ID: {}", transaction.getId());
+            
+            // Fraud detection and status update
+            Transaction decidedTransaction;
+            try {
+                decidedTransaction = decideTransaction(transaction);
+            } catch (RuntimeException e) {
+                // The transaction is persisted and its key taken, so it must still be decided
+                redriveInBackground(transaction);
+                throw e;
+            }
+            
+            return transactionMetrics.time(Stage.MAPPING, () -> transactionMapper.toResponseDTO(decidedTransaction));
+        });
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TransactionResponseDTO submitTransaction(TransactionRequestDTO requestDTO) {
+        return submitTransaction(requestDTO, null);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TransactionResponseDTO submitTransaction(TransactionRequestDTO requestDTO, String idempotencyKey) {
+        return transactionMetrics.track(() -> executeIdempotently(idempotencyKey, requestDTO, 
+                () -> submitNewTransaction(requestDTO, idempotencyKey)));
+    }
+    
+    /**
+     * Persists a request not seen before in PENDING status and queues its fraud check.
+     * 
+     * @param requestDTO the transaction request
+     * @param idempotencyKey the idempotency key, possibly null
+     * @return the accepted transaction response
+     */
+    private TransactionResponseDTO submitNewTransaction(TransactionRequestDTO requestDTO, String idempotencyKey) {
+        log.info("Accepting transaction for asynchronous processing, account: {}, amount: {}", 
+                requestDTO.getAccountId(), requestDTO.getAmount());
         
-        log.info("Transaction created with ID: {}", transaction.getId());
+        // Validate business rules
+        transactionMetrics.time(Stage.VALIDATION, () -> validateTransactionRules(requestDTO));
         
-        // Simulate fraud detection (the intentional bottleneck)
-        boolean fraudCheckPassed = simulateFraudCheck(transaction);
+        // Create and persist transaction entity in PENDING status
+        Transaction transaction;
+        try {
+            transaction = transactionMetrics.time(Stage.INSERT, 
+                    () -> insertPendingTransaction(requestDTO, idempotencyKey));
+        } catch (DataIntegrityViolationException e) {
+            if (idempotencyKey == null) {
+                throw e;
+            }
+            // Created concurrently for the same key, e.g. by another instance
+            return findIdempotentTransaction(idempotencyKey, requestDTO).orElseThrow(() -> e);
+        }
+        TransactionResponseDTO responseDTO = transactionMapper.toResponseDTO(transaction);
         
-        // Update transaction status based on fraud check result
-        if (fraudCheckPassed) {
-            transaction.setStatus(TransactionStatus.APPROVED);
-            log.info("Transaction {} approved after fraud check", transaction.getId());
-        } else {
-            transaction.setStatus(TransactionStatus.REJECTED);
-            log.warn("Transaction {} rejected by fraud check", transaction.getId());
+        try {
+            accountSerializer.submit(transaction.getAccountId(), () -> completeTransaction(transaction), 
+                    fraudCheckExecutor);
+        } catch (TaskRejectedException e) {
+            // The transaction was never accepted, so it must not linger as PENDING
+            log.warn("Fraud check queue is full, discarding transaction: {}", transaction.getId());
+            transactionTemplate.executeWithoutResult(status -> 
+                    transactionRepository.deleteById(transaction.getId()));
+            transactionCache.invalidate(transaction.getId());
+            throw e;
         }
         
-        // Save final transaction state
-        transaction = transactionRepository.save(transaction);
+        log.info("Transaction {} accepted for asynchronous processing", transaction.getId());
         
-        log.info("Transaction processing completed for ID: {}, final status: {}", 
-                transaction.getId(), transaction.getStatus());
+        return responseDTO;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<TransactionBatchItemResultDTO> submitTransactions(List<TransactionRequestDTO> requestDTOs) {
+        if (requestDTOs == null || requestDTOs.isEmpty()) {
+            throw new CustomBusinessException(
+                    "Transaction batch must contain at least one item",
+                    "EMPTY_BATCH");
+        }
+        if (requestDTOs.size() > asyncProperties.getBatchMaxItems()) {
+            throw new CustomBusinessException(
+                    "Transaction batch exceeds maximum size of " + asyncProperties.getBatchMaxItems(),
+                    "BATCH_TOO_LARGE");
+        }
+        
+        log.info("Accepting batch of {} transactions for asynchronous processing", requestDTOs.size());
+        
+        TransactionBatchItemResultDTO[] results = new TransactionBatchItemResultDTO[requestDTOs.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Transaction> pendingTransactions = new ArrayList<>();
+        
+        // Validate every item independently so one bad item does not fail the whole batch
+        for (int i = 0; i < requestDTOs.size(); i++) {
+            TransactionRequestDTO requestDTO = requestDTOs.get(i);
+            try {
+                validateBatchItem(requestDTO);
+                validateTransactionRules(requestDTO);
+                pendingTransactions.add(transactionMapper.toEntity(requestDTO));
+                acceptedIndexes.add(i);
+            } catch (CustomBusinessException e) {
+                transactionMetrics.recordError(e);
+                results[i] = TransactionBatchItemResultDTO.failed(i, e.getErrorCode(), e.getMessage());
+            }
+        }
+        
+        // Persist all valid items in one short transaction using JDBC batch inserts
+        List<Transaction> savedTransactions = pendingTransactions.isEmpty() 
+                ? List.of() 
+                : transactionTemplate.execute(status -> transactionRepository.saveAll(pendingTransactions));
+        savedTransactions.forEach(readConsistency::recordWrite);
+        
+        List<UUID> discardedIds = new ArrayList<>();
+        for (int i = 0; i < savedTransactions.size(); i++) {
+            Transaction transaction = savedTransactions.get(i);
+            int index = acceptedIndexes.get(i);
+            TransactionResponseDTO responseDTO = transactionMapper.toResponseDTO(transaction);
+            try {
+                accountSerializer.submit(transaction.getAccountId(), () -> completeTransaction(transaction), 
+                        fraudCheckExecutor);
+                results[index] = TransactionBatchItemResultDTO.accepted(index, responseDTO);
+            } catch (TaskRejectedException e) {
+                discardedIds.add(transaction.getId());
+                results[index] = TransactionBatchItemResultDTO.failed(index, "PROCESSING_QUEUE_FULL",
+                        "Transaction processing capacity exhausted. Please retry later.");
+            }
+        }
+        
+        if (!discardedIds.isEmpty()) {
+            // Items that never made it to the fraud check must not linger as PENDING
+            log.warn("Fraud check queue is full, discarding {} transactions from batch", discardedIds.size());
+            transactionTemplate.executeWithoutResult(status -> 
+                    transactionRepository.deleteAllByIdInBatch(discardedIds));
+            transactionCache.invalidateAll(discardedIds);
+        }
+        
+        log.info("Batch accepted: {} of {} transactions queued for processing", 
+                savedTransactions.size() - discardedIds.size(), requestDTOs.size());
         
-        return transactionMapper.toResponseDTO(transaction);
+        return Arrays.asList(results);
     }
     
     /**
      * {@inheritDoc}
      */
     @Override
-    @Transactional(readOnly = true)
+    public int recoverPendingTransactions(LocalDateTime createdBefore, int limit) {
+        // Account of each transaction to recover, those left for review here first
+        Map<UUID, String> pendingTransactions = new LinkedHashMap<>();
+        for (Map.Entry<UUID, String> entry : awaitingReview.entrySet()) {
+            if (pendingTransactions.size() >= limit) {
+                break;
+            }
+            pendingTransactions.put(entry.getKey(), entry.getValue());
+        }
+        if (pendingTransactions.size() < limit) {
+            readConsistency.onPrimary(() -> transactionRepository.findByStatusCreatedBefore(TransactionStatus.PENDING, 
+                            createdBefore, Limit.of(limit - pendingTransactions.size())))
+                    .forEach(transaction -> pendingTransactions.putIfAbsent(transaction.getId(), 
+                            transaction.getAccountId()));
+        }
+        
+        int queued = 0;
+        for (Map.Entry<UUID, String> entry : pendingTransactions.entrySet()) {
+            UUID transactionId = entry.getKey();
+            try {
+                accountSerializer.submit(entry.getValue(), () -> redriveTransaction(transactionId), 
+                        fraudCheckExecutor);
+            } catch (TaskRejectedException e) {
+                log.warn("Fraud check queue is full, {} pending transactions left for the next recovery", 
+                        pendingTransactions.size() - queued);
+                break;
+            }
+            awaitingReview.remove(transactionId);
+            queued++;
+        }
+        
+        if (queued > 0) {
+            log.info("Queued {} pending transactions for a new fraud decision", queued);
+        }
+        return queued;
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * Served from the transaction cache when possible. No transaction is opened here,
+     * so cache hits never check out a database connection.
+     */
+    @Override
     public TransactionResponseDTO getTransactionById(UUID transactionId) {
         log.info("Retrieving transaction by ID: {}", transactionId);
         
-        Transaction transaction = transactionRepository.findById(transactionId)
-                .orElseThrow(() -> new CustomBusinessException(
-                        "Transaction not found with ID: " + transactionId, 
-                        "TRANSACTION_NOT_FOUND"));
-        
-        return transactionMapper.toResponseDTO(transaction);
+        return transactionCache.get(transactionId, id -> {
+            Transaction transaction = readConsistency.readYourWrites(id, () -> transactionRepository.findById(id))
+                    .orElseThrow(() -> new CustomBusinessException(
+                            "Transaction not found with ID: " + id, 
+                            "TRANSACTION_NOT_FOUND"));
+            
+            return transactionMapper.toResponseDTO(transaction);
+        });
     }
     
     /**
@@ -97,14 +377,20 @@ public class TransactionServiceImpl implements TransactionService {
      */
     @Override
     @Transactional(readOnly = true)
-    public List<TransactionResponseDTO> getTransactionsByAccountId(String accountId) {
+    public TransactionPageDTO getTransactionsByAccountId(String accountId, String cursor, Integer limit) {
         log.info("Retrieving transactions for account: {}", accountId);
         
-        List<Transaction> transactions = transactionRepository.findByAccountIdOrderByTimestampDesc(accountId);
+        int pageSize = resolvePageSize(limit);
+        List<Transaction> transactions = readConsistency.readYourWrites(accountId, () -> {
+            if (cursor == null) {
+                return transactionRepository.findFirstPageByAccountId(accountId, Limit.of(pageSize + 1));
+            }
+            TransactionCursor position = TransactionCursor.decode(cursor);
+            return transactionRepository.findPageByAccountIdAfter(
+                    accountId, position.timestamp(), position.id(), Limit.of(pageSize + 1));
+        });
         
-        return transactions.stream()
-                .map(transactionMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return toPage(transactions, pageSize);
     }
     
     /**
@@ -112,14 +398,20 @@ public class TransactionServiceImpl implements TransactionService {
      */
     @Override
     @Transactional(readOnly = true)
-    public List<TransactionResponseDTO> getTransactionsByStatus(TransactionStatus status) {
+    public TransactionPageDTO getTransactionsByStatus(TransactionStatus status, String cursor, Integer limit) {
         log.info("Retrieving transactions by status: {}", status);
         
-        List<Transaction> transactions = transactionRepository.findByStatusOrderByTimestampDesc(status);
+        int pageSize = resolvePageSize(limit);
+        List<Transaction> transactions;
+        if (cursor == null) {
+            transactions = transactionRepository.findFirstPageByStatus(status, Limit.of(pageSize + 1));
+        } else {
+            TransactionCursor position = TransactionCursor.decode(cursor);
+            transactions = transactionRepository.findPageByStatusAfter(
+                    status, position.timestamp(), position.id(), Limit.of(pageSize + 1));
+        }
         
-        return transactions.stream()
-                .map(transactionMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return toPage(transactions, pageSize);
     }
     
     /**
@@ -127,23 +419,159 @@ public class TransactionServiceImpl implements TransactionService {
      */
     @Override
     @Transactional(readOnly = true)
-    public List<TransactionResponseDTO> getAllTransactions() {
+    public TransactionPageDTO getAllTransactions(String cursor, Integer limit) {
         log.info("Retrieving all transactions");
         
-        List<Transaction> transactions = transactionRepository.findAll();
+        int pageSize = resolvePageSize(limit);
+        List<Transaction> transactions;
+        if (cursor == null) {
+            transactions = transactionRepository.findFirstPage(Limit.of(pageSize + 1));
+        } else {
+            TransactionCursor position = TransactionCursor.decode(cursor);
+            transactions = transactionRepository.findPageAfter(
+                    position.timestamp(), position.id(), Limit.of(pageSize + 1));
+        }
+        
+        return toPage(transactions, pageSize);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamTransactionsByAccountId(String accountId, Consumer<TransactionResponseDTO> consumer) {
+        log.info("Streaming transactions for account: {}", accountId);
+        
+        try (Stream<Transaction> transactions = transactionRepository.streamByAccountId(accountId)) {
+            streamTo(transactions, consumer);
+        }
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamTransactionsByStatus(TransactionStatus status, Consumer<TransactionResponseDTO> consumer) {
+        log.info("Streaming transactions by status: {}", status);
+        
+        try (Stream<Transaction> transactions = transactionRepository.streamByStatus(status)) {
+            streamTo(transactions, consumer);
+        }
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllTransactions(Consumer<TransactionResponseDTO> consumer) {
+        log.info("Streaming all transactions");
+        
+        try (Stream<Transaction> transactions = transactionRepository.streamAll()) {
+            streamTo(transactions, consumer);
+        }
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validateTimeRange(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new CustomBusinessException(
+                    "Time range requires a start before its end",
+                    "INVALID_TIME_RANGE");
+        }
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamTransactionsBetween(LocalDateTime from, LocalDateTime to,
+                                          Consumer<TransactionResponseDTO> consumer) {
+        validateTimeRange(from, to);
+        
+        log.info("Streaming transactions from {} to {}", from, to);
+        
+        // Rows of a partition being archived are served from its archive file only
+        LocalDateTime archivedUntil = transactionArchiveRepository.findArchivedUntil().orElse(null);
+        LocalDateTime liveFrom = archivedUntil != null && archivedUntil.isAfter(from) ? archivedUntil : from;
+        
+        if (liveFrom.isBefore(to)) {
+            try (Stream<Transaction> transactions = transactionRepository.streamByTimestampRange(liveFrom, to)) {
+                streamTo(transactions, consumer);
+            }
+        }
+        if (liveFrom.isAfter(from)) {
+            transactionArchiveReader.getObject().stream(from, liveFrom.isBefore(to) ? liveFrom : to, consumer);
+        }
+    }
+    
+    /**
+     * Resolves the requested page size against the default and maximum page sizes.
+     * 
+     * @param limit the requested page size, possibly null
+     * @return the page size to use
+     * @throws CustomBusinessException if the requested page size is not positive
+     */
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit <= 0) {
+            throw new CustomBusinessException(
+                    "Page size must be positive",
+                    "INVALID_PAGE_SIZE");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+    
+    /**
+     * Builds a page from a query result fetched with one extra row,
+     * which only signals that a next page exists.
+     * 
+     * @param transactions the query result, at most pageSize + 1 rows
+     * @param pageSize the page size
+     * @return the page of transactions
+     */
+    private TransactionPageDTO toPage(List<Transaction> transactions, int pageSize) {
+        boolean hasNext = transactions.size() > pageSize;
+        List<Transaction> page = hasNext ? transactions.subList(0, pageSize) : transactions;
         
-        return transactions.stream()
+        List<TransactionResponseDTO> items = page.stream()
                 .map(transactionMapper::toResponseDTO)
                 .collect(Collectors.toList());
+        String nextCursor = hasNext ? TransactionCursor.of(page.get(pageSize - 1)).encode() : null;
+        
+        return new TransactionPageDTO(items, nextCursor);
+    }
+    
+    /**
+     * Maps streamed entities one by one, detaching each from the persistence context
+     * so memory use stays constant regardless of the number of rows.
+     * 
+     * @param transactions the entity stream
+     * @param consumer receives each mapped transaction
+     */
+    private void streamTo(Stream<Transaction> transactions, Consumer<TransactionResponseDTO> consumer) {
+        transactions.forEach(transaction -> {
+            consumer.accept(transactionMapper.toResponseDTO(transaction));
+            entityManager.detach(transaction);
+        });
     }
     
     /**
      * Validates business rules for transaction processing.
+     * Package-private and stateless so that it can be benchmarked in isolation.
      * 
      * @param requestDTO the transaction request to validate
      * @throws CustomBusinessException if validation fails
      */
-    private void validateTransactionRules(TransactionRequestDTO requestDTO) {
+    static void validateTransactionRules(TransactionRequestDTO requestDTO) {
         // Check maximum transaction amount
         if (requestDTO.getAmount().compareTo(MAX_TRANSACTION_AMOUNT) > 0) {
             throw new CustomBusinessException(
@@ -160,42 +588,348 @@ public class TransactionServiceImpl implements TransactionService {
     }
     
     /**
-     * Simulates a synchronous call to a legacy fraud detection system.
-     * This method intentionally includes a Thread.sleep to simulate the latency
-     * of calling an external fraud detection service.
+     * Applies Bean Validation to a batch item, since list elements in the request body
+     * are not validated by the controller.
      * 
-     * In a real-world scenario, this would be replaced with actual fraud detection logic
-     * or a call to an external fraud detection API.
+     * @param requestDTO the transaction request to validate
+     * @throws CustomBusinessException if a constraint is violated
+     */
+    private void validateBatchItem(TransactionRequestDTO requestDTO) {
+        if (requestDTO == null) {
+            throw new CustomBusinessException(
+                    "Transaction request cannot be null",
+                    "VALIDATION_ERROR");
+        }
+        
+        Set<ConstraintViolation<TransactionRequestDTO>> violations = validator.validate(requestDTO);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            throw new CustomBusinessException(message, "VALIDATION_ERROR");
+        }
+    }
+    
+    /**
+     * Runs the fraud check for an accepted transaction and persists the final status.
+     * Executed on the fraud check executor in the account's turn; failures leave the
+     * transaction in PENDING status.
      * 
-     * @param transaction the transaction to check for fraud
-     * @return true if the transaction passes fraud checks, false otherwise
+     * @param transaction the accepted transaction
      */
-    private boolean simulateFraudCheck(Transaction transaction) {
-        log.info("Initiating fraud check for transaction: {}", transaction.getId());
+    private void completeTransaction(Transaction transaction) {
+        try {
+            transactionMetrics.track(() -> decideTransaction(transaction));
+        } catch (RuntimeException e) {
+            log.error("Asynchronous processing failed for transaction: {}", transaction.getId(), e);
+        }
+    }
+    
+    /**
+     * Queues a new fraud decision for a persisted transaction whose processing failed.
+     * It runs after the current holder of the account's turn, so at the earliest once
+     * the failed attempt has given up.
+     * 
+     * @param transaction the PENDING transaction
+     */
+    private void redriveInBackground(Transaction transaction) {
+        try {
+            accountSerializer.submit(transaction.getAccountId(), () -> redriveTransaction(transaction.getId()), 
+                    fraudCheckExecutor);
+        } catch (TaskRejectedException e) {
+            log.error("Fraud check queue is full, transaction {} left for pending recovery", transaction.getId());
+        }
+    }
+    
+    /**
+     * Decides a transaction whose earlier processing did not complete, unless it has been
+     * decided meanwhile. Executed on the fraud check executor in the account's turn.
+     * 
+     * @param transactionId the transaction identifier
+     */
+    private void redriveTransaction(UUID transactionId) {
+        try {
+            Optional<Transaction> transaction = readConsistency.onPrimary(
+                    () -> transactionRepository.findById(transactionId));
+            if (transaction.isEmpty() || transaction.get().getStatus() != TransactionStatus.PENDING) {
+                transactionCache.invalidate(transactionId);
+                return;
+            }
+            
+            log.info("Re-driving fraud decision of pending transaction: {}", transactionId);
+            transactionMetrics.track(() -> decideTransaction(transaction.get()));
+        } catch (RuntimeException e) {
+            log.error("Re-driven processing failed for transaction: {}", transactionId, e);
+        }
+    }
+    
+    /**
+     * Runs the fraud check and applies its decision. Callers hold the account's turn in
+     * the {@link AccountSerializer}, so no other transaction of the account is being decided.
+     * 
+     * @param transaction the persisted PENDING transaction
+     * @return the saved transaction
+     */
+    private Transaction decideTransaction(Transaction transaction) {
+        // Fraud detection (the intentional bottleneck)
+        FraudVerdict verdict = checkFraud(transaction);
+        
+        // Update transaction status based on fraud check result
+        return applyFraudDecision(transaction, verdict);
+    }
+    
+    /**
+     * Persists a new transaction in PENDING status through the transaction writer.
+     * 
+     * @param requestDTO the validated transaction request
+     * @param idempotencyKey the idempotency key, possibly null
+     * @return the persisted transaction
+     * @throws DataIntegrityViolationException if a transaction already exists for the key
+     */
+    private Transaction insertPendingTransaction(TransactionRequestDTO requestDTO, String idempotencyKey) {
+        Transaction transaction = transactionMapper.toEntity(requestDTO);
+        transaction.setIdempotencyKey(idempotencyKey);
+        
+        Transaction savedTransaction = transactionWriter.insertPending(transaction);
+        readConsistency.recordWrite(savedTransaction);
+        return savedTransaction;
+    }
+    
+    /**
+     * Runs a transaction request at most once per idempotency key. The first request for a
+     * key registers its execution in the idempotency cache; duplicates return the current
+     * state of its transaction, waiting for it while it is in flight. Keys no longer held in
+     * memory are looked up in the database. Failed executions are forgotten so that the
+     * client can retry them; a transaction persisted before the failure is decided in the
+     * background, and the retry returns it.
+     * 
+     * @param idempotencyKey the idempotency key, or null to run the request unconditionally
+     * @param requestDTO the transaction request
+     * @param execution runs the request when the key is new
+     * @return the transaction response of the first request for the key
+     * @throws CustomBusinessException if the key is invalid or was used for a different request
+     */
+    private TransactionResponseDTO executeIdempotently(String idempotencyKey, TransactionRequestDTO requestDTO,
+                                                       Supplier<TransactionResponseDTO> execution) {
+        if (idempotencyKey == null) {
+            return execution.get();
+        }
+        validateIdempotencyKey(idempotencyKey);
+        
+        CompletableFuture<TransactionResponseDTO> result = new CompletableFuture<>();
+        CompletableFuture<TransactionResponseDTO> existing = 
+                idempotencyCache.asMap().putIfAbsent(idempotencyKey, result);
+        if (existing != null) {
+            log.info("Duplicate request for idempotency key: {}", idempotencyKey);
+            return currentState(verifySameRequest(idempotencyKey, requestDTO, awaitResult(existing)));
+        }
         
         try {
-            // Simulação de chamada síncrona a sistema legado de fraude
-            // This simulates the latency of calling a legacy fraud detection system
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            log.error("Fraud check interrupted for transaction: {}", transaction.getId(), e);
-            Thread.currentThread().interrupt();
+            TransactionResponseDTO responseDTO = findIdempotentTransaction(idempotencyKey, requestDTO)
+                    .orElseGet(execution);
+            result.complete(responseDTO);
+            return responseDTO;
+        } catch (RuntimeException e) {
+            idempotencyCache.asMap().remove(idempotencyKey, result);
+            result.completeExceptionally(e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Looks up the transaction already created for an idempotency key.
+     * 
+     * @param idempotencyKey the idempotency key
+     * @param requestDTO the repeated transaction request
+     * @return the existing transaction response, if any
+     * @throws CustomBusinessException if the key was used for a different request
+     */
+    private Optional<TransactionResponseDTO> findIdempotentTransaction(String idempotencyKey, 
+                                                                       TransactionRequestDTO requestDTO) {
+        return readConsistency.onPrimary(() -> transactionRepository.findByIdempotencyKey(idempotencyKey))
+                .map(transactionMapper::toResponseDTO)
+                .map(responseDTO -> {
+                    log.info("Transaction {} already exists for idempotency key: {}", 
+                            responseDTO.getId(), idempotencyKey);
+                    return verifySameRequest(idempotencyKey, requestDTO, responseDTO);
+                });
+    }
+    
+    /**
+     * Returns the current state of a transaction returned earlier. Only a PENDING
+     * transaction can have changed since; it is read from the transaction cache, which
+     * is refreshed with every final status, or else from the primary.
+     * 
+     * @param responseDTO the transaction as returned earlier
+     * @return the transaction in its current state
+     */
+    private TransactionResponseDTO currentState(TransactionResponseDTO responseDTO) {
+        if (responseDTO.getStatus() != TransactionStatus.PENDING) {
+            return responseDTO;
+        }
+        
+        TransactionResponseDTO cached = transactionCache.getIfPresent(responseDTO.getId());
+        if (cached != null && cached.getStatus() != TransactionStatus.PENDING) {
+            return cached;
+        }
+        return readConsistency.onPrimary(() -> transactionRepository.findById(responseDTO.getId()))
+                .map(transactionMapper::toResponseDTO)
+                .orElse(responseDTO);
+    }
+    
+    /**
+     * Waits for the execution registered for an idempotency key.
+     * 
+     * @param result the registered execution
+     * @return the transaction response of the execution
+     */
+    private TransactionResponseDTO awaitResult(CompletableFuture<TransactionResponseDTO> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * Ensures that a request repeating an idempotency key matches the original request.
+     * 
+     * @param idempotencyKey the idempotency key
+     * @param requestDTO the repeated transaction request
+     * @param responseDTO the transaction created for the original request
+     * @return the transaction created for the original request
+     * @throws CustomBusinessException if the requests differ
+     */
+    private TransactionResponseDTO verifySameRequest(String idempotencyKey, TransactionRequestDTO requestDTO,
+                                                     TransactionResponseDTO responseDTO) {
+        if (!responseDTO.getAccountId().equals(requestDTO.getAccountId()) 
+                || responseDTO.getAmount().compareTo(requestDTO.getAmount()) != 0) {
             throw new CustomBusinessException(
-                    "Fraud check process was interrupted",
-                    "FRAUD_CHECK_INTERRUPTED", e);
+                    "Idempotency key already used for a different request: " + idempotencyKey,
+                    "IDEMPOTENCY_KEY_REUSED");
+        }
+        return responseDTO;
+    }
+    
+    /**
+     * Validates the format of an idempotency key.
+     * 
+     * @param idempotencyKey the idempotency key
+     * @throws CustomBusinessException if the key is blank or too long
+     */
+    private void validateIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new CustomBusinessException(
+                    "Idempotency key must be between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters",
+                    "INVALID_IDEMPOTENCY_KEY");
+        }
+    }
+    
+    /**
+     * Updates the transaction status based on the fraud check result and saves the final state
+     * and the account balance in their own short transaction. A REVIEW verdict leaves the
+     * transaction PENDING. If another decision of the transaction was saved first, that
+     * decision is kept and returned.
+     * 
+     * @param transaction the transaction to update
+     * @param verdict the fraud check verdict
+     * @return the saved transaction, or the transaction as decided earlier
+     */
+    private Transaction applyFraudDecision(Transaction transaction, FraudVerdict verdict) {
+        if (verdict == FraudVerdict.REVIEW) {
+            // No decision available, the transaction stays PENDING until the next recovery
+            log.warn("Transaction {} left pending for review after fraud check", transaction.getId());
+            awaitingReview.put(transaction.getId(), transaction.getAccountId());
+            return transaction;
+        }
+        
+        if (verdict == FraudVerdict.APPROVE) {
+            transaction.setStatus(TransactionStatus.APPROVED);
+            log.info("Transaction {} approved after fraud check", transaction.getId());
+        } else {
+            transaction.setStatus(TransactionStatus.REJECTED);
+            log.warn("Transaction {} rejected by fraud check", transaction.getId());
+        }
+        
+        // Save final transaction state together with the account balance
+        Transaction savedTransaction;
+        try {
+            savedTransaction = transactionMetrics.time(Stage.SAVE, () -> {
+                try {
+                    return transactionWriter.saveFinalStatus(transaction);
+                } catch (DataIntegrityViolationException e) {
+                    // The account's balance row was created concurrently; it can now be incremented
+                    log.debug("Retrying final status update for transaction: {}", transaction.getId());
+                    return transactionWriter.saveFinalStatus(transaction);
+                }
+            });
+        } catch (CustomBusinessException e) {
+            if (!ALREADY_DECIDED.equals(e.getErrorCode())) {
+                throw e;
+            }
+            return keepEarlierDecision(transaction, e);
         }
         
-        // Simple fraud detection logic based on amount
-        // Transactions above the suspicious threshold have a 30% chance of being flagged as fraud
-        boolean isFraudulent = false;
-        if (transaction.getAmount().compareTo(SUSPICIOUS_AMOUNT_THRESHOLD) > 0) {
-            // Simulate some fraud detection logic (30% rejection rate for high amounts)
-            isFraudulent = Math.random() < 0.3;
+        // Refresh the cached entry once the final status is committed
+        transactionCache.put(savedTransaction.getId(), transactionMapper.toResponseDTO(savedTransaction));
+        readConsistency.recordWrite(savedTransaction);
+        
+        // Only approved transactions count against the account's velocity limits
+        if (savedTransaction.getStatus() == TransactionStatus.APPROVED) {
+            velocityRulesEngine.record(savedTransaction);
         }
         
+        log.info("Transaction processing completed for ID: {}, final status: {}", 
+                savedTransaction.getId(), savedTransaction.getStatus());
+        
+        return savedTransaction;
+    }
+    
+    /**
+     * Returns the decision stored for a transaction that was decided concurrently, by the
+     * pending recovery of another instance for example. Its balance and outbox event were
+     * written by that decision, so this one is dropped.
+     * 
+     * @param transaction the transaction whose decision was not saved
+     * @param alreadyDecided the refusal of the final status
+     * @return the transaction as decided earlier
+     */
+    private Transaction keepEarlierDecision(Transaction transaction, CustomBusinessException alreadyDecided) {
+        log.warn("Transaction {} was decided concurrently, keeping the earlier decision", transaction.getId());
+        transactionCache.invalidate(transaction.getId());
+        return readConsistency.onPrimary(() -> transactionRepository.findById(transaction.getId()))
+                .orElseThrow(() -> alreadyDecided);
+    }
+    
+    /**
+     * Checks a persisted transaction for fraud. The local velocity rules decide obvious
+     * cases; only the others go to the configured {@link FraudChecker}.
+     * No database connection is held while the check is running.
+     * 
+     * @param transaction the transaction to check for fraud
+     * @return the fraud verdict
+     */
+    private FraudVerdict checkFraud(Transaction transaction) {
+        log.info("Initiating fraud check for transaction: {}", transaction.getId());
+        
+        FraudVerdict verdict = transactionMetrics.time(Stage.FRAUD_CHECK, () -> {
+            Optional<FraudVerdict> localVerdict = velocityRulesEngine.evaluate(transaction);
+            if (localVerdict.isPresent()) {
+                transactionMetrics.recordDecision(localVerdict.get(), DecisionSource.VELOCITY_RULES);
+                return localVerdict.get();
+            }
+            FraudVerdict legacyVerdict = fraudChecker.check(transaction);
+            transactionMetrics.recordDecision(legacyVerdict, DecisionSource.FRAUD_CHECK);
+            return legacyVerdict;
+        });
+        
         log.info("Fraud check completed for transaction: {}, result: {}", 
-                transaction.getId(), !isFraudulent ? "PASSED" : "FAILED");
+                transaction.getId(), verdict);
         
-        return !isFraudulent;
+        return verdict;
     }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.jfincore.service;
+
+import com.jfincore.datasource.ReadConsistency;
+import com.jfincore.entity.Transaction;
+import com.jfincore.entity.TransactionStatus;
+import com.jfincore.fraud.VelocityRulesEngine;
+import com.jfincore.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Rebuilds the per-account windows of the velocity rules from the transactions
+ * approved within the last window.
+ * 
+ * The rebuild is a lifecycle phase that completes before the web server starts, so no
+ * fraud check is evaluated against a partly rebuilt window and no live approval is
+ * recorded twice or ahead of older ones. Approvals are streamed from the primary, oldest
+ * first, in constant memory.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VelocityStateLoader implements SmartLifecycle {
+    
+    /**
+     * Lifecycle phase of the rebuild, ahead of the web server's late phase
+     */
+    private static final int PHASE = 0;
+    
+    private final TransactionRepository transactionRepository;
+    private final VelocityRulesEngine velocityRulesEngine;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+    private final ReadConsistency readConsistency;
+    private volatile boolean running;
+    
+    /**
+     * Rebuilds the windows before the application starts taking requests.
+     */
+    @Override
+    public void start() {
+        if (velocityRulesEngine.isEnabled()) {
+            rebuild();
+        }
+        running = true;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        running = false;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+    
+    /**
+     * Loads the transactions approved within the last window into the velocity rules engine, oldest first.
+     */
+    void rebuild() {
+        LocalDateTime since = LocalDateTime.now().minus(velocityRulesEngine.getWindow());
+        TransactionTemplate readOnlyTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate.setReadOnly(true);
+        
+        Long count = readConsistency.onPrimary(() -> readOnlyTemplate.execute(status -> {
+            long loaded = 0;
+            try (Stream<Transaction> transactions = 
+                         transactionRepository.streamByStatusSince(TransactionStatus.APPROVED, since)) {
+                Iterator<Transaction> iterator = transactions.iterator();
+                while (iterator.hasNext()) {
+                    Transaction transaction = iterator.next();
+                    velocityRulesEngine.record(transaction);
+                    entityManager.detach(transaction);
+                    loaded++;
+                }
+            }
+            return loaded;
+        }));
+        
+        log.info("Velocity rules state rebuilt from {} approved transactions", count);
+    }
+}
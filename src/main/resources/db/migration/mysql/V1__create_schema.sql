@@ -0,0 +1,39 @@
+-- Baseline schema, as previously generated by Hibernate from the entities
+
+CREATE TABLE transactions (
+    id              BINARY(16)     NOT NULL,
+    account_id      VARCHAR(50)    NOT NULL,
+    amount          DECIMAL(19, 2) NOT NULL,
+    status          VARCHAR(20)    NOT NULL,
+    timestamp       DATETIME(6)    NOT NULL,
+    idempotency_key VARCHAR(100),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_transactions_idempotency_key UNIQUE (idempotency_key)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_transactions_account_timestamp ON transactions (account_id, timestamp);
+CREATE INDEX idx_transactions_status_timestamp ON transactions (status, timestamp);
+CREATE INDEX idx_transactions_account_status_amount ON transactions (account_id, status, amount);
+CREATE INDEX idx_transactions_timestamp ON transactions (timestamp);
+
+CREATE TABLE account_balances (
+    account_id        VARCHAR(50)    NOT NULL,
+    status            VARCHAR(20)    NOT NULL,
+    total_amount      DECIMAL(19, 2) NOT NULL,
+    transaction_count BIGINT         NOT NULL,
+    PRIMARY KEY (account_id, status)
+) ENGINE = InnoDB;
+
+CREATE TABLE outbox_events (
+    id             BIGINT         NOT NULL AUTO_INCREMENT,
+    stream_offset  BIGINT,
+    transaction_id BINARY(16)     NOT NULL,
+    account_id     VARCHAR(50)    NOT NULL,
+    amount         DECIMAL(19, 2) NOT NULL,
+    status         VARCHAR(20)    NOT NULL,
+    occurred_at    DATETIME(6)    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_outbox_events_stream_offset UNIQUE (stream_offset)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_outbox_events_occurred_at ON outbox_events (occurred_at);
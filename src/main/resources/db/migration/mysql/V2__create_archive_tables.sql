@@ -0,0 +1,21 @@
+-- Index of archived transaction partitions and the balance totals of the archived transactions
+
+CREATE TABLE transaction_archives (
+    partition_name    VARCHAR(64)  NOT NULL,
+    range_start       DATETIME(6),
+    range_end         DATETIME(6)  NOT NULL,
+    file_path         VARCHAR(512) NOT NULL,
+    transaction_count BIGINT       NOT NULL,
+    archived_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (partition_name)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_transaction_archives_range_end ON transaction_archives (range_end);
+
+CREATE TABLE archived_balances (
+    account_id        VARCHAR(50)    NOT NULL,
+    status            VARCHAR(20)    NOT NULL,
+    total_amount      DECIMAL(19, 2) NOT NULL,
+    transaction_count BIGINT         NOT NULL,
+    PRIMARY KEY (account_id, status)
+) ENGINE = InnoDB;
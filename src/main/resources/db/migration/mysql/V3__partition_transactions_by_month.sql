@@ -0,0 +1,34 @@
+-- Monthly RANGE partitioning of transactions on timestamp.
+-- Every unique key of a partitioned table must contain the partitioning column, so the
+-- primary key becomes (id, timestamp) and idempotency keys move to their own table,
+-- filled by a trigger so that duplicate keys still fail the transaction insert.
+-- Monthly partitions are then split off p_future and archived by the application.
+
+CREATE TABLE transaction_idempotency_keys (
+    idempotency_key VARCHAR(100) NOT NULL,
+    transaction_id  BINARY(16)   NOT NULL,
+    PRIMARY KEY (idempotency_key)
+) ENGINE = InnoDB;
+
+INSERT INTO transaction_idempotency_keys (idempotency_key, transaction_id)
+SELECT idempotency_key, id FROM transactions WHERE idempotency_key IS NOT NULL;
+
+CREATE TRIGGER trg_transactions_idempotency_key BEFORE INSERT ON transactions FOR EACH ROW
+    INSERT INTO transaction_idempotency_keys (idempotency_key, transaction_id)
+    SELECT NEW.idempotency_key, NEW.id FROM DUAL WHERE NEW.idempotency_key IS NOT NULL;
+
+ALTER TABLE transactions
+    DROP INDEX uk_transactions_idempotency_key,
+    ADD INDEX idx_transactions_idempotency_key (idempotency_key),
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, timestamp);
+
+-- Existing rows stay in p_history until it is archived; the current month onwards goes to p_future
+SET @history_end = DATE_FORMAT(CURRENT_DATE, '%Y-%m-01');
+SET @partition_ddl = CONCAT(
+    'ALTER TABLE transactions PARTITION BY RANGE COLUMNS (timestamp) (',
+    'PARTITION p_history VALUES LESS THAN (''', @history_end, '''), ',
+    'PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+PREPARE partition_transactions FROM @partition_ddl;
+EXECUTE partition_transactions;
+DEALLOCATE PREPARE partition_transactions;
@@ -0,0 +1,12 @@
+-- Idempotency keys live in their own table since V3, so deleting a transaction no longer
+-- frees its key. Release it with the row, as the unique index on transactions used to.
+-- DROP PARTITION does not fire triggers; the partition manager releases those keys itself.
+
+CREATE TRIGGER trg_transactions_release_idempotency_key AFTER DELETE ON transactions FOR EACH ROW
+    DELETE FROM transaction_idempotency_keys
+    WHERE idempotency_key = OLD.idempotency_key AND transaction_id = OLD.id;
+
+-- Keys left behind by transactions deleted before this migration
+DELETE k FROM transaction_idempotency_keys k
+    LEFT JOIN transactions t ON t.id = k.transaction_id
+    WHERE t.id IS NULL;
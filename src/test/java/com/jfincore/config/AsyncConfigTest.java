@@ -0,0 +1,73 @@
+package com.jfincore.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests of the bounded thread-per-task executor behind the virtual fraud check executor.
+ * Platform threads are used so that the tests run on any Java version.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+class AsyncConfigTest {
+    
+    @Test
+    void rejectsTasksBeyondConcurrencyLimitUntilRunningTasksFinish() throws InterruptedException {
+        AsyncConfig.BoundedVirtualTaskExecutor executor = new AsyncConfig.BoundedVirtualTaskExecutor(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(2);
+        try {
+            for (int i = 0; i < 2; i++) {
+                executor.execute(() -> {
+                    await(release);
+                    finished.countDown();
+                });
+            }
+            
+            assertThatThrownBy(() -> executor.execute(() -> { }))
+                    .isInstanceOf(TaskRejectedException.class);
+            
+            release.countDown();
+            assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue();
+            
+            CountDownLatch accepted = new CountDownLatch(1);
+            awaitAccepted(executor, accepted);
+            assertThat(accepted.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+            executor.close();
+        }
+    }
+    
+    /**
+     * Submits a task, retrying while the permits of just finished tasks are being released.
+     */
+    private static void awaitAccepted(AsyncConfig.BoundedVirtualTaskExecutor executor, CountDownLatch accepted)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (true) {
+            try {
+                executor.execute(accepted::countDown);
+                return;
+            } catch (TaskRejectedException e) {
+                assertThat(System.nanoTime()).isLessThan(deadline);
+                Thread.sleep(10);
+            }
+        }
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
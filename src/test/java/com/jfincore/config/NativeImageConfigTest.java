@@ -0,0 +1,116 @@
+package com.jfincore.config;
+
+import com.jfincore.dto.AccountBalanceDTO;
+import com.jfincore.dto.TransactionBatchItemResultDTO;
+import com.jfincore.dto.TransactionEventDTO;
+import com.jfincore.dto.TransactionPageDTO;
+import com.jfincore.dto.TransactionRequestDTO;
+import com.jfincore.dto.TransactionResponseDTO;
+import com.jfincore.entity.AccountBalance;
+import com.jfincore.entity.AccountBalanceId;
+import com.jfincore.entity.ArchivedBalance;
+import com.jfincore.entity.OutboxEvent;
+import com.jfincore.entity.Transaction;
+import com.jfincore.entity.TransactionArchive;
+import com.jfincore.entity.TransactionStatus;
+import com.jfincore.exception.ErrorResponse;
+import com.jfincore.logging.SamplingTurboFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.ReflectiveRuntimeHintsRegistrar;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests of the runtime hints of the native image: everything the application reaches
+ * through reflection or as a classpath resource, and that the AOT processing cannot
+ * infer, must be covered by a hint.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+class NativeImageConfigTest {
+    
+    private final RuntimeHints hints = new RuntimeHints();
+    
+    @BeforeEach
+    void setUp() {
+        ClassLoader classLoader = getClass().getClassLoader();
+        new NativeImageConfig.JFinCoreRuntimeHints().registerHints(hints, classLoader);
+        new ReflectiveRuntimeHintsRegistrar().registerRuntimeHints(hints, NativeImageConfig.class);
+    }
+    
+    @Test
+    void registersEntitiesForHibernate() {
+        Stream.of(Transaction.class, AccountBalance.class, AccountBalanceId.class, ArchivedBalance.class,
+                        OutboxEvent.class, TransactionArchive.class)
+                .forEach(entityType -> assertThat(RuntimeHintsPredicates.reflection()
+                        .onType(entityType)
+                        .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                                MemberCategory.DECLARED_FIELDS))
+                        .as("Hints of %s", entityType.getSimpleName())
+                        .accepts(hints));
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TransactionStatus.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS))
+                .accepts(hints);
+    }
+    
+    @Test
+    void registersDtosForJsonBinding() {
+        Stream.of(TransactionRequestDTO.class, TransactionResponseDTO.class, TransactionBatchItemResultDTO.class,
+                        TransactionPageDTO.class, TransactionEventDTO.class, AccountBalanceDTO.class,
+                        ErrorResponse.class)
+                .forEach(dtoType -> assertThat(RuntimeHintsPredicates.reflection().onType(dtoType))
+                        .as("Hints of %s", dtoType.getSimpleName())
+                        .accepts(hints));
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(TransactionResponseDTO.class, "getAccountId"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(TransactionRequestDTO.class, "setAmount"))
+                .accepts(hints);
+    }
+    
+    @Test
+    void registersValidatedFieldsOfRequest() {
+        assertThat(RuntimeHintsPredicates.reflection().onField(TransactionRequestDTO.class, "accountId"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onField(TransactionRequestDTO.class, "amount"))
+                .accepts(hints);
+    }
+    
+    @Test
+    void registersClassesNamedInLogbackConfiguration() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(SamplingTurboFilter.class)
+                .withMemberCategories(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS))
+                .accepts(hints);
+        Stream.of("ch.qos.logback.classic.AsyncAppender", "net.logstash.logback.encoder.LogstashEncoder")
+                .forEach(typeName -> assertThat(RuntimeHintsPredicates.reflection()
+                        .onType(TypeReference.of(typeName))
+                        .withMemberCategories(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS))
+                        .as("Hints of %s", typeName)
+                        .accepts(hints));
+    }
+    
+    @Test
+    void registersEveryMigrationScript() throws IOException {
+        Resource[] scripts = new PathMatchingResourcePatternResolver().getResources("classpath*:db/migration/**/*.sql");
+        
+        assertThat(scripts).isNotEmpty();
+        for (Resource script : scripts) {
+            String path = script.getURL().getPath();
+            String location = path.substring(path.lastIndexOf("db/migration/"));
+            assertThat(RuntimeHintsPredicates.resource().forResource(location))
+                    .as("Hint of %s", location)
+                    .accepts(hints);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.jfincore.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests of request validation in the transaction endpoints: an account identifier longer
+ * than its column is rejected, and an invalid export time range is rejected with an error
+ * response before the export stream is started.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "jfincore.fraud.legacy-latency=0ms",
+        "jfincore.async.recovery.enabled=false"
+})
+@AutoConfigureMockMvc
+class TransactionControllerTest {
+    
+    private static final String TRANSACTIONS_PATH = "/api/v1/transactions";
+    private static final String EXPORT_PATH = TRANSACTIONS_PATH + "/export";
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Test
+    void rejectsAccountIdLongerThanItsColumn() throws Exception {
+        String accountId = "A".repeat(51);
+        
+        mockMvc.perform(post(TRANSACTIONS_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"accountId\": \"" + accountId + "\", \"amount\": 125.00}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"))
+                .andExpect(jsonPath("$.validationErrors.accountId").exists());
+    }
+    
+    @Test
+    void rejectsExportWithStartOnly() throws Exception {
+        assertInvalidTimeRange("2024-06-01T00:00:00", null);
+    }
+    
+    @Test
+    void rejectsExportWithEndOnly() throws Exception {
+        assertInvalidTimeRange(null, "2024-06-01T00:00:00");
+    }
+    
+    @Test
+    void rejectsExportWithStartNotBeforeEnd() throws Exception {
+        assertInvalidTimeRange("2024-06-01T00:00:00", "2024-06-01T00:00:00");
+        assertInvalidTimeRange("2024-06-02T00:00:00", "2024-06-01T00:00:00");
+    }
+    
+    @Test
+    void streamsExportOfValidTimeRange() throws Exception {
+        MvcResult result = mockMvc.perform(get(EXPORT_PATH)
+                        .param("from", "2024-06-01T00:00:00")
+                        .param("to", "2024-06-02T00:00:00")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+    }
+    
+    private void assertInvalidTimeRange(String from, String to) throws Exception {
+        MockHttpServletRequestBuilder export = get(EXPORT_PATH).accept(MediaType.APPLICATION_NDJSON);
+        if (from != null) {
+            export.param("from", from);
+        }
+        if (to != null) {
+            export.param("to", to);
+        }
+        
+        mockMvc.perform(export)
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_TIME_RANGE"));
+    }
+}
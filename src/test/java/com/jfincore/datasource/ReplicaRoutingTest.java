@@ -0,0 +1,135 @@
+package com.jfincore.datasource;
+
+import com.jfincore.dto.TransactionRequestDTO;
+import com.jfincore.dto.TransactionResponseDTO;
+import com.jfincore.service.TransactionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests of read routing with the read replica enabled, using two separate in-memory H2
+ * databases as primary and replica. Replication is not simulated: rows written by the
+ * application only exist on the primary, and rows inserted directly into the replica
+ * only there, so every read shows which database served it.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.datasource.url=" + ReplicaRoutingTest.PRIMARY_URL,
+        "spring.datasource.username=sa",
+        "jfincore.datasource.replica.enabled=true",
+        "jfincore.datasource.replica.url=" + ReplicaRoutingTest.REPLICA_URL,
+        "jfincore.fraud.legacy-latency=0ms",
+        "jfincore.async.recovery.enabled=false"
+})
+class ReplicaRoutingTest {
+    
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+    
+    private static final JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", ""));
+    private static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+    
+    @Autowired
+    private TransactionService transactionService;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @BeforeAll
+    static void migrateReplica() {
+        // Flyway only migrates the primary
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration/h2")
+                .load()
+                .migrate();
+    }
+    
+    @Test
+    void servesReadOnlyTransactionsFromReplica() {
+        UUID replicaOnlyId = insertIntoReplica("ACC-REPLICA-ONLY");
+        double replicaConnections = routedConnections("replica");
+        
+        List<TransactionResponseDTO> items = transactionService
+                .getTransactionsByAccountId("ACC-REPLICA-ONLY", null, null)
+                .getItems();
+        
+        assertThat(items).extracting(TransactionResponseDTO::getId).containsExactly(replicaOnlyId);
+        assertThat(routedConnections("replica")).isGreaterThan(replicaConnections);
+    }
+    
+    @Test
+    void writesToPrimaryOnly() {
+        TransactionResponseDTO written = transactionService.processTransaction(
+                new TransactionRequestDTO("ACC-WRITTEN", new BigDecimal("125.00")));
+        
+        assertThat(countById(primary, written.getId())).isEqualTo(1);
+        assertThat(countById(replica, written.getId())).isZero();
+    }
+    
+    @Test
+    void readsOwnWritesFromPrimaryWithinWindow() {
+        insertIntoReplica("ACC-RECENT");
+        TransactionResponseDTO written = transactionService.processTransaction(
+                new TransactionRequestDTO("ACC-RECENT", new BigDecimal("125.00")));
+        
+        List<TransactionResponseDTO> items = transactionService
+                .getTransactionsByAccountId("ACC-RECENT", null, null)
+                .getItems();
+        
+        // The replica row would be returned as well if the replica had been read
+        assertThat(items).extracting(TransactionResponseDTO::getId).containsExactly(written.getId());
+    }
+    
+    @Test
+    void readsOtherAccountsFromReplicaAfterWrites() {
+        transactionService.processTransaction(new TransactionRequestDTO("ACC-OTHER-WRITE", new BigDecimal("125.00")));
+        UUID replicaOnlyId = insertIntoReplica("ACC-NOT-WRITTEN");
+        
+        List<TransactionResponseDTO> items = transactionService
+                .getTransactionsByAccountId("ACC-NOT-WRITTEN", null, null)
+                .getItems();
+        
+        assertThat(items).extracting(TransactionResponseDTO::getId).containsExactly(replicaOnlyId);
+    }
+    
+    private double routedConnections(String pool) {
+        return meterRegistry.get("jfincore.datasource.routed").tag("pool", pool).counter().count();
+    }
+    
+    private static UUID insertIntoReplica(String accountId) {
+        UUID id = UUID.randomUUID();
+        replica.update("INSERT INTO transactions (id, account_id, amount, status, timestamp) VALUES (?, ?, ?, ?, ?)",
+                bytes(id), accountId, new BigDecimal("10.00"), "APPROVED", Timestamp.valueOf(LocalDateTime.now()));
+        return id;
+    }
+    
+    private static Integer countById(JdbcTemplate database, UUID id) {
+        return database.queryForObject("SELECT COUNT(*) FROM transactions WHERE id = ?", Integer.class, bytes(id));
+    }
+    
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,121 @@
+package com.jfincore.fraud;
+
+import com.jfincore.entity.Transaction;
+import com.jfincore.exception.CustomBusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests of the {@link BatchingFraudChecker}: a caller never waits longer than the check
+ * timeout, and checks queued before close are scored while new ones are refused.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+class BatchingFraudCheckerTest {
+    
+    private static final int CALLERS = 32;
+    
+    private ExecutorService callers;
+    
+    @BeforeEach
+    void setUp() {
+        callers = Executors.newFixedThreadPool(CALLERS);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+    
+    @Test
+    @Timeout(10)
+    void failsCheckWhoseLegacyCallOutlastsCheckTimeout() {
+        CountDownLatch release = new CountDownLatch(1);
+        LegacyFraudClient hangingClient = transactions -> {
+            awaitUninterruptibly(release);
+            return Collections.nCopies(transactions.size(), FraudVerdict.APPROVE);
+        };
+        
+        try (BatchingFraudChecker checker = newChecker(hangingClient, Duration.ofMillis(200))) {
+            long start = System.nanoTime();
+            
+            assertThatThrownBy(() -> checker.check(newTransaction()))
+                    .isInstanceOf(CustomBusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo("FRAUD_CHECK_TIMEOUT");
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+            release.countDown();
+        }
+    }
+    
+    @Test
+    void scoresChecksQueuedBeforeCloseAndRefusesNewOnes() {
+        BatchingFraudChecker checker = newChecker(slowClient(), Duration.ofMinutes(1));
+        List<CompletableFuture<FraudVerdict>> checks = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            checks.add(CompletableFuture.supplyAsync(() -> checker.check(newTransaction()), callers));
+        }
+        CompletableFuture.allOf(checks.toArray(CompletableFuture[]::new)).orTimeout(10, TimeUnit.SECONDS).join();
+        
+        checker.close();
+        
+        assertThat(checks).allMatch(check -> check.join() == FraudVerdict.APPROVE);
+        assertThatThrownBy(() -> checker.check(newTransaction()))
+                .isInstanceOf(CustomBusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo("FRAUD_CHECK_UNAVAILABLE");
+    }
+    
+    private static BatchingFraudChecker newChecker(LegacyFraudClient legacyFraudClient, Duration checkTimeout) {
+        return new BatchingFraudChecker(legacyFraudClient, 10, Duration.ofMillis(5), checkTimeout, 2, 1000,
+                new SimpleMeterRegistry());
+    }
+    
+    private static LegacyFraudClient slowClient() {
+        return transactions -> {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Collections.nCopies(transactions.size(), FraudVerdict.APPROVE);
+        };
+    }
+    
+    private static Transaction newTransaction() {
+        return new Transaction("ACC-BATCH", new BigDecimal("125.00"));
+    }
+    
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.jfincore.persistence;
+
+import com.jfincore.JFinCoreApplication;
+import com.jfincore.entity.Transaction;
+import com.jfincore.entity.TransactionStatus;
+import com.jfincore.exception.CustomBusinessException;
+import com.jfincore.repository.TransactionRepository;
+import com.jfincore.service.TransactionService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests of the {@link WriteBehindTransactionWriter} on an H2 file database: batches are
+ * flushed on size, on time and on close, and every acknowledged change survives a crash
+ * of the database, after which the transactions left PENDING are decided by recovery.
+ * A transaction decided twice, as by two instances, keeps its first decision.
+ * 
+ * A crash is simulated with H2's {@code SHUTDOWN IMMEDIATELY}, which closes the database
+ * without writing anything further, like a killed process.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+class WriteBehindTransactionWriterTest {
+    
+    private static final int TRANSACTIONS = 50;
+    
+    @TempDir
+    Path directory;
+    
+    private ExecutorService callers;
+    private ConfigurableApplicationContext context;
+    
+    @BeforeEach
+    void setUp() {
+        callers = Executors.newFixedThreadPool(TRANSACTIONS);
+        context = start();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        context.close();
+    }
+    
+    @Test
+    void writesFullBatchWithoutWaitingForMaxDelay() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        try (WriteBehindTransactionWriter writer = newWriter(TRANSACTIONS, Duration.ofMinutes(1), meterRegistry)) {
+            List<CompletableFuture<Transaction>> writes = insertConcurrently(writer, "ACC-FULL", TRANSACTIONS);
+            
+            CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)).orTimeout(10, TimeUnit.SECONDS).join();
+            
+            DistributionSummary batchSize = meterRegistry.get("jfincore.persistence.write-behind.batch.size").summary();
+            assertThat(batchSize.count()).isEqualTo(1);
+            assertThat(batchSize.max()).isEqualTo(TRANSACTIONS);
+            assertThat(countByAccount("ACC-FULL")).isEqualTo(TRANSACTIONS);
+        }
+    }
+    
+    @Test
+    void writesPartialBatchAfterMaxDelay() {
+        try (WriteBehindTransactionWriter writer = newWriter(100, Duration.ofMillis(50), new SimpleMeterRegistry())) {
+            Transaction written = writer.insertPending(new Transaction("ACC-PARTIAL", new BigDecimal("125.00")));
+            
+            // Acknowledged only once committed, so another connection sees it right away
+            assertThat(statusOf(written.getId())).isEqualTo(TransactionStatus.PENDING.name());
+        }
+    }
+    
+    @Test
+    void writesBufferedChangesOnCloseAndRefusesNewOnes() throws InterruptedException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        WriteBehindTransactionWriter writer = newWriter(100, Duration.ofSeconds(1), meterRegistry);
+        List<CompletableFuture<Transaction>> writes = insertConcurrently(writer, "ACC-CLOSE", 5);
+        // Close while the batch still waits for more changes, once all callers are in it
+        awaitCondition(() -> meterRegistry.get("jfincore.persistence.write-behind.waiting").gauge().value() == 5);
+        
+        writer.close();
+        
+        CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)).orTimeout(10, TimeUnit.SECONDS).join();
+        assertThat(writes).noneMatch(CompletableFuture::isCompletedExceptionally);
+        assertThat(countByAccount("ACC-CLOSE")).isEqualTo(5);
+        assertThatThrownBy(() -> writer.insertPending(new Transaction("ACC-CLOSE", new BigDecimal("125.00"))))
+                .isInstanceOf(TaskRejectedException.class);
+    }
+    
+    @Test
+    void keepsAcknowledgedChangesAcrossCrashAndDecidesPendingOnesAfterRestart() throws InterruptedException {
+        WriteBehindTransactionWriter writer = context.getBean(WriteBehindTransactionWriter.class);
+        List<UUID> decided = new ArrayList<>();
+        List<UUID> pending = new ArrayList<>();
+        
+        CountDownLatch done = new CountDownLatch(TRANSACTIONS);
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            boolean decide = i % 2 == 0;
+            List<UUID> acknowledged = decide ? decided : pending;
+            // One account per transaction, so that balance rows are never created concurrently
+            String accountId = "ACC-CRASH-" + i;
+            callers.execute(() -> {
+                Transaction transaction = writer.insertPending(new Transaction(accountId, new BigDecimal("125.00")));
+                if (decide) {
+                    transaction.setStatus(TransactionStatus.APPROVED);
+                    writer.saveFinalStatus(transaction);
+                }
+                synchronized (acknowledged) {
+                    acknowledged.add(transaction.getId());
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        
+        context.getBean(JdbcTemplate.class).execute("SHUTDOWN IMMEDIATELY");
+        context.close();
+        context = start();
+        
+        assertThat(decided).allMatch(id -> TransactionStatus.APPROVED.name().equals(statusOf(id)));
+        assertThat(pending).allMatch(id -> TransactionStatus.PENDING.name().equals(statusOf(id)));
+        
+        int queued = context.getBean(TransactionService.class)
+                .recoverPendingTransactions(LocalDateTime.now(), TRANSACTIONS);
+        
+        assertThat(queued).isEqualTo(pending.size());
+        awaitCondition(() -> pending.stream().noneMatch(id -> TransactionStatus.PENDING.name().equals(statusOf(id))));
+    }
+    
+    @Test
+    void keepsFirstDecisionOfTransactionDecidedTwice() {
+        WriteBehindTransactionWriter writer = context.getBean(WriteBehindTransactionWriter.class);
+        Transaction approved = writer.insertPending(new Transaction("ACC-TWICE", new BigDecimal("125.00")));
+        approved.setStatus(TransactionStatus.APPROVED);
+        writer.saveFinalStatus(approved);
+        
+        Transaction rejected = new Transaction("ACC-TWICE", new BigDecimal("125.00"));
+        rejected.setId(approved.getId());
+        rejected.setStatus(TransactionStatus.REJECTED);
+        for (TransactionWriter secondWriter : List.of(writer, context.getBean(DirectTransactionWriter.class))) {
+            assertThatThrownBy(() -> secondWriter.saveFinalStatus(rejected))
+                    .isInstanceOf(CustomBusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo("TRANSACTION_ALREADY_DECIDED");
+        }
+        
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        assertThat(statusOf(approved.getId())).isEqualTo(TransactionStatus.APPROVED.name());
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT status, transaction_count FROM account_balances WHERE account_id = 'ACC-TWICE'"))
+                .containsExactly(Map.of("STATUS", "APPROVED", "TRANSACTION_COUNT", 1L));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events WHERE transaction_id = ?",
+                Integer.class, bytes(approved.getId()))).isEqualTo(1);
+    }
+    
+    /**
+     * Starts the application on the H2 file database of the test, or restarts it on the
+     * database left by an earlier start.
+     * 
+     * @return the application context
+     */
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(JFinCoreApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        // Committed changes are flushed to the file at once, so the crash cannot lose them
+                        "--spring.datasource.url=jdbc:h2:file:" + directory.resolve("jfincore") + ";WRITE_DELAY=0",
+                        "--spring.datasource.username=sa",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.jfincore=WARN",
+                        "--jfincore.persistence.mode=write-behind",
+                        "--jfincore.fraud.legacy-latency=0ms",
+                        "--jfincore.async.recovery.enabled=false",
+                        "--jfincore.balance.reconciliation.enabled=false",
+                        "--jfincore.outbox.relay-enabled=false");
+    }
+    
+    private WriteBehindTransactionWriter newWriter(int maxBatchSize, Duration maxDelay,
+                                                   SimpleMeterRegistry meterRegistry) {
+        return new WriteBehindTransactionWriter(
+                context.getBean(DirectTransactionWriter.class),
+                context.getBean(TransactionRepository.class),
+                context.getBean(TransactionTemplate.class),
+                1000, maxBatchSize, maxDelay, Duration.ofSeconds(1), meterRegistry);
+    }
+    
+    private List<CompletableFuture<Transaction>> insertConcurrently(WriteBehindTransactionWriter writer,
+                                                                    String accountId, int count) {
+        List<CompletableFuture<Transaction>> writes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            writes.add(CompletableFuture.supplyAsync(
+                    () -> writer.insertPending(new Transaction(accountId, new BigDecimal("125.00"))), callers));
+        }
+        return writes;
+    }
+    
+    private Integer countByAccount(String accountId) {
+        return context.getBean(JdbcTemplate.class)
+                .queryForObject("SELECT COUNT(*) FROM transactions WHERE account_id = ?", Integer.class, accountId);
+    }
+    
+    private String statusOf(UUID id) {
+        return context.getBean(JdbcTemplate.class)
+                .queryForObject("SELECT status FROM transactions WHERE id = ?", String.class, bytes(id));
+    }
+    
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+    
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.jfincore.repository;
+
+import com.jfincore.entity.TransactionStatus;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the query plan of every {@link TransactionRepository} finder that filters on an
+ * indexed column: the SQL Hibernate generates for the finder is explained by H2, whose
+ * schema carries the same indexes as the MySQL schema, and must read an index rather
+ * than scan the table.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.jfincore.repository.TransactionRepositoryIndexTest$RecordingStatementInspector"
+})
+class TransactionRepositoryIndexTest {
+    
+    private static final int ROWS = 5_000;
+    private static final int ACCOUNTS = 100;
+    private static final int LIMIT = 20;
+    private static final String ACCOUNT = "ACC-7";
+    private static final String STATUS = TransactionStatus.APPROVED.name();
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+    private static final UUID ID = UUID.randomUUID();
+    
+    @Autowired
+    private TransactionRepository transactionRepository;
+    
+    @Autowired
+    private DataSource dataSource;
+    
+    private JdbcTemplate jdbcTemplate;
+    
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionStatus[] statuses = TransactionStatus.values();
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[] {bytes(UUID.randomUUID()), "ACC-" + (i % ACCOUNTS), i % 1000,
+                    statuses[i % statuses.length].name(), Timestamp.valueOf(NOW.minusMinutes(i))});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO transactions (id, account_id, amount, status, timestamp) VALUES (?, ?, ?, ?, ?)", rows);
+        RecordingStatementInspector.statements.clear();
+    }
+    
+    @Test
+    void findsByIdempotencyKeyThroughUniqueIndex() {
+        assertUsesIndex(() -> transactionRepository.findByIdempotencyKey("key"), "key");
+    }
+    
+    @Test
+    void findsByAccountThroughIndex() {
+        assertUsesIndex(() -> transactionRepository.findByAccountIdOrderByTimestampDesc(ACCOUNT), ACCOUNT);
+        assertUsesIndex(() -> transactionRepository.findFirstPageByAccountId(ACCOUNT, Limit.of(LIMIT)), 
+                ACCOUNT, 0, LIMIT);
+        assertUsesIndex(() -> transactionRepository.findPageByAccountIdAfter(ACCOUNT, NOW, ID, Limit.of(LIMIT)),
+                ACCOUNT, NOW, NOW, ID, 0, LIMIT);
+        assertUsesIndex(() -> transactionRepository.existsByAccountId(ACCOUNT), ACCOUNT, 1);
+        assertUsesIndex(() -> firstOf(transactionRepository.streamByAccountId(ACCOUNT)), ACCOUNT);
+    }
+    
+    @Test
+    void findsByStatusThroughIndex() {
+        TransactionStatus status = TransactionStatus.APPROVED;
+        assertUsesIndex(() -> transactionRepository.findByStatusOrderByTimestampDesc(status), STATUS);
+        assertUsesIndex(() -> transactionRepository.findFirstPageByStatus(status, Limit.of(LIMIT)), STATUS, 0, LIMIT);
+        assertUsesIndex(() -> transactionRepository.findPageByStatusAfter(status, NOW, ID, Limit.of(LIMIT)),
+                STATUS, NOW, NOW, ID, 0, LIMIT);
+        assertUsesIndex(() -> transactionRepository.findByStatusCreatedBefore(status, NOW, Limit.of(LIMIT)),
+                STATUS, NOW, 0, LIMIT);
+        assertUsesIndex(() -> firstOf(transactionRepository.streamByStatus(status)), STATUS);
+        assertUsesIndex(() -> firstOf(transactionRepository.streamByStatusSince(status, NOW)), STATUS, NOW);
+    }
+    
+    @Test
+    void findsByAccountAndStatusThroughIndex() {
+        TransactionStatus status = TransactionStatus.APPROVED;
+        LocalDateTime since = NOW.minusHours(1);
+        assertUsesIndex(() -> transactionRepository.findByAccountIdAndStatus(ACCOUNT, status), ACCOUNT, STATUS);
+        assertUsesIndex(() -> transactionRepository.calculateTotalAmountByAccountIdAndStatus(ACCOUNT, status),
+                ACCOUNT, STATUS);
+        assertUsesIndex(() -> transactionRepository.countByAccountIdAndStatus(ACCOUNT, status), ACCOUNT, STATUS);
+        assertUsesIndex(() -> transactionRepository.calculateTotalAmountByAccountIdAndStatusSince(
+                ACCOUNT, status, since), ACCOUNT, STATUS, since);
+        assertUsesIndex(() -> transactionRepository.countByAccountIdAndStatusAndTimestampGreaterThanEqual(
+                ACCOUNT, status, since), ACCOUNT, STATUS, since);
+    }
+    
+    @Test
+    void findsByTimestampRangeThroughIndex() {
+        LocalDateTime from = NOW.minusHours(2);
+        assertUsesIndex(() -> transactionRepository.findByTimestampBetweenOrderByTimestampDesc(from, NOW), from, NOW);
+        assertUsesIndex(() -> firstOf(transactionRepository.streamByTimestampRange(from, NOW)), from, NOW);
+    }
+    
+    /**
+     * Runs a finder, explains the SQL it issued with the given parameter values and checks
+     * that the plan reads one of the transaction indexes.
+     * 
+     * @param finder the finder call
+     * @param parameters the values of the query parameters, in order of appearance
+     */
+    private void assertUsesIndex(Runnable finder, Object... parameters) {
+        RecordingStatementInspector.statements.clear();
+        finder.run();
+        String sql = RecordingStatementInspector.statements.stream()
+                .filter(statement -> statement.stripLeading().toLowerCase().startsWith("select"))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("The finder issued no query"));
+        
+        Object[] values = Stream.of(parameters)
+                .map(parameter -> parameter instanceof UUID id ? bytes(id) : parameter)
+                .toArray();
+        assertThat(sql.chars().filter(c -> c == '?').count())
+                .as("Parameters of %s", sql)
+                .isEqualTo(values.length);
+        
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, values);
+        assertThat(plan)
+                .as("Plan of %s", sql)
+                .doesNotContainIgnoringCase("tableScan")
+                .containsPattern("(?i)(idx|uk)_transactions_");
+    }
+    
+    private static void firstOf(Stream<?> stream) {
+        try (stream) {
+            stream.findFirst();
+        }
+    }
+    
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+    
+    /**
+     * Records the SQL statements Hibernate prepares.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+        
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+        
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
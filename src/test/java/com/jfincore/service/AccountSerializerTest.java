@@ -0,0 +1,227 @@
+package com.jfincore.service;
+
+import com.jfincore.config.AsyncProperties;
+import com.jfincore.exception.CustomBusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Stress tests of the {@link AccountSerializer}: work of one account never overlaps,
+ * a busy account never holds more than one executor thread, and throughput grows
+ * linearly with the number of accounts.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+class AccountSerializerTest {
+    
+    private static final int THREADS = 16;
+    private static final long WORK_MILLIS = 20;
+    private static final int OPERATIONS_PER_ACCOUNT = 10;
+    
+    private ExecutorService executor;
+    private AccountSerializer serializer;
+    
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+        serializer = newSerializer(Duration.ofSeconds(10));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    @Test
+    void runsWorkOfOneAccountOneAtATimeInArrivalOrder() throws InterruptedException {
+        ConcurrencyProbe probe = new ConcurrencyProbe();
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(100);
+        
+        for (int i = 0; i < 100; i++) {
+            int operation = i;
+            serializer.submit("ACC-1", () -> probe.run(() -> {
+                order.add(operation);
+                done.countDown();
+            }), executor);
+        }
+        
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(probe.maxConcurrent()).isEqualTo(1);
+        assertThat(order).containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+    }
+    
+    @Test
+    void neverOverlapsWaitingCallersAndQueuedWorkOfOneAccount() throws InterruptedException {
+        ConcurrencyProbe probe = new ConcurrencyProbe();
+        AtomicInteger completed = new AtomicInteger();
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 400; i++) {
+                if (i % 2 == 0) {
+                    serializer.submit("ACC-1", () -> probe.run(completed::incrementAndGet), executor);
+                } else {
+                    callers.execute(() -> serializer.execute("ACC-1", () -> probe.run(completed::incrementAndGet)));
+                }
+            }
+            callers.shutdown();
+            assertThat(callers.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            callers.shutdownNow();
+        }
+        
+        awaitCondition(() -> completed.get() == 400);
+        assertThat(probe.maxConcurrent()).isEqualTo(1);
+    }
+    
+    @Test
+    void busyAccountHoldsAtMostOneExecutorThread() throws InterruptedException {
+        ExecutorService twoThreads = Executors.newFixedThreadPool(2);
+        try {
+            ConcurrencyProbe probe = new ConcurrencyProbe();
+            for (int i = 0; i < 50; i++) {
+                serializer.submit("HOT", () -> probe.run(() -> sleep(WORK_MILLIS)), twoThreads);
+            }
+            
+            CountDownLatch otherAccountDone = new CountDownLatch(1);
+            serializer.submit("COLD", otherAccountDone::countDown, twoThreads);
+            
+            // The hot account's 50 operations take a second; the other account does not wait for them
+            assertThat(otherAccountDone.await(WORK_MILLIS * 10, TimeUnit.MILLISECONDS)).isTrue();
+            assertThat(probe.maxConcurrent()).isEqualTo(1);
+        } finally {
+            twoThreads.shutdownNow();
+        }
+    }
+    
+    @Test
+    void throughputScalesLinearlyWithAccounts() throws InterruptedException {
+        double singleAccount = throughput(1);
+        
+        for (int accounts = 2; accounts <= THREADS; accounts *= 2) {
+            double throughput = throughput(accounts);
+            System.out.printf("%2d accounts: %6.0f operations/s (%.1fx one account)%n",
+                    accounts, throughput, throughput / singleAccount);
+            
+            assertThat(throughput).isGreaterThan(singleAccount * accounts * 0.5);
+        }
+    }
+    
+    @Test
+    void failsWaitingCallerWithoutRunningItsWorkWhenAccountStaysBusy() throws InterruptedException {
+        AccountSerializer impatientSerializer = newSerializer(Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+        impatientSerializer.submit("ACC-1", () -> await(release), executor);
+        
+        AtomicBoolean ran = new AtomicBoolean();
+        assertThatThrownBy(() -> impatientSerializer.execute("ACC-1", () -> ran.getAndSet(true)))
+                .isInstanceOf(CustomBusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo("ACCOUNT_BUSY");
+        
+        release.countDown();
+        assertThat(impatientSerializer.execute("ACC-1", () -> "next")).isEqualTo("next");
+        assertThat(ran).isFalse();
+    }
+    
+    /**
+     * Runs a fixed number of operations per account, each sleeping like a fraud check,
+     * and measures the completed operations per second.
+     * 
+     * @param accounts the number of accounts
+     * @return the throughput in operations per second
+     */
+    private double throughput(int accounts) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(accounts * OPERATIONS_PER_ACCOUNT);
+        long start = System.nanoTime();
+        for (int operation = 0; operation < OPERATIONS_PER_ACCOUNT; operation++) {
+            for (int account = 0; account < accounts; account++) {
+                serializer.submit("ACC-" + account, () -> {
+                    sleep(WORK_MILLIS);
+                    done.countDown();
+                }, executor);
+            }
+        }
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        return accounts * OPERATIONS_PER_ACCOUNT / ((System.nanoTime() - start) / 1e9);
+    }
+    
+    private static AccountSerializer newSerializer(Duration waitTimeout) {
+        AsyncProperties properties = new AsyncProperties();
+        properties.setAccountLockTimeout(waitTimeout);
+        return new AccountSerializer(properties, new SimpleMeterRegistry());
+    }
+    
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Tracks the highest number of operations running at the same time.
+     */
+    private static final class ConcurrencyProbe {
+        
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxRunning = new AtomicInteger();
+        
+        <T> T run(Supplier<T> operation) {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                return operation.get();
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+        
+        void run(Runnable operation) {
+            run(() -> {
+                operation.run();
+                return null;
+            });
+        }
+        
+        int maxConcurrent() {
+            return maxRunning.get();
+        }
+    }
+}
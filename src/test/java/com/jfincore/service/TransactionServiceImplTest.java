@@ -0,0 +1,46 @@
+package com.jfincore.service;
+
+import com.jfincore.dto.TransactionRequestDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests of the {@link TransactionServiceImpl} against the H2 database: a constraint
+ * violation of a request without idempotency key is reported as such, and never
+ * resolved to another transaction that has no key either.
+ * 
+ * @author J-FinCore Team
+ * @version 1.0
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "jfincore.fraud.legacy-latency=0ms",
+        "jfincore.async.recovery.enabled=false"
+})
+class TransactionServiceImplTest {
+    
+    // Longer than the account column; the controller rejects it, the service relies on the database
+    private static final String OVERSIZED_ACCOUNT_ID = "A".repeat(51);
+    
+    @Autowired
+    private TransactionService transactionService;
+    
+    @Test
+    void rethrowsConstraintViolationOfRequestWithoutIdempotencyKey() {
+        // Transactions without key, which a lookup by a null key would find
+        transactionService.processTransaction(new TransactionRequestDTO("ACC-NO-KEY-1", new BigDecimal("125.00")));
+        transactionService.processTransaction(new TransactionRequestDTO("ACC-NO-KEY-2", new BigDecimal("125.00")));
+        TransactionRequestDTO oversized = new TransactionRequestDTO(OVERSIZED_ACCOUNT_ID, new BigDecimal("125.00"));
+        
+        assertThatThrownBy(() -> transactionService.processTransaction(oversized))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> transactionService.submitTransaction(oversized, null))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}